@@ -0,0 +1,71 @@
+package org.dotwebstack.framework.backend.rdf4j.converters;
+
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.dotwebstack.framework.core.converters.CoreConverter;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Compares the datatype lookup of the router with the linear scan over all converters it replaced.
+ * Run with: mvn -P benchmark -pl backend/rdf4j test-compile exec:java
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Rdf4jConverterRouterBenchmark {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private final List<CoreConverter<Value, ?>> converters = ImmutableList.of(new BooleanConverter(),
+      new ByteConverter(), new DateConverter(), new DateTimeConverter(), new DecimalConverter(),
+      new DoubleConverter(), new FloatConverter(), new IntConverter(), new IntegerConverter(), new IriConverter(),
+      new LongConverter(), new ShortConverter());
+
+  private final Rdf4jConverterRouter converterRouter = new Rdf4jConverterRouter(converters);
+
+  private final List<Value> values = ImmutableList.of(VF.createLiteral(true), VF.createLiteral((byte) 1),
+      VF.createLiteral("2019-05-30", XMLSchema.DATE), VF.createLiteral("2019-05-30T09:30:10+02:00", XMLSchema.DATETIME),
+      VF.createLiteral(new BigDecimal("1.5")), VF.createLiteral(1.5d), VF.createLiteral(1.5f), VF.createLiteral(1),
+      VF.createLiteral(BigInteger.ONE), VF.createIRI("https://github.com/dotwebstack/beer/id/brewery/123"),
+      VF.createLiteral(1L), VF.createLiteral((short) 1), VF.createLiteral("Brouwerij 1923"),
+      VF.createLiteral("brewery", "en"));
+
+  @Benchmark
+  public void convert_DatatypeLookup(Blackhole blackhole) {
+    for (Value value : values) {
+      blackhole.consume(converterRouter.convert(value));
+    }
+  }
+
+  @Benchmark
+  public void convert_LinearScan(Blackhole blackhole) {
+    for (Value value : values) {
+      Optional<CoreConverter<Value, ?>> compatibleConverter = converters.stream()
+          .filter(converter -> converter.supports(value))
+          .findFirst();
+
+      blackhole.consume(compatibleConverter.isPresent() ? compatibleConverter.get()
+          .convert(value) : DefaultConverter.convert(value));
+    }
+  }
+}
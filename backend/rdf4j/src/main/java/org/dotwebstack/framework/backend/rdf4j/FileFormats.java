@@ -7,7 +7,9 @@ import org.eclipse.rdf4j.rio.RDFFormat;
 final class FileFormats {
 
   private static final ImmutableMap<String, RDFFormat> FORMATS =
-      ImmutableMap.of("trig", RDFFormat.TRIG, "nq", RDFFormat.NQUADS);
+      ImmutableMap.of("trig", RDFFormat.TRIG, "nq", RDFFormat.NQUADS, "brf", RDFFormat.BINARY);
+
+  private static final String GZIP_EXTENSION = "gz";
 
   private FileFormats() {}
 
@@ -15,4 +17,19 @@ final class FileFormats {
     return FORMATS.get(extension.toLowerCase());
   }
 
+  static RDFFormat getFormatForFilename(@NonNull String filename) {
+    String[] parts = filename.split("\\.");
+
+    if (parts.length > 2 && isGzipped(filename)) {
+      return getFormat(parts[parts.length - 2]);
+    }
+
+    return parts.length > 1 ? getFormat(parts[parts.length - 1]) : null;
+  }
+
+  static boolean isGzipped(@NonNull String filename) {
+    return filename.toLowerCase()
+        .endsWith("." + GZIP_EXTENSION);
+  }
+
 }
@@ -0,0 +1,162 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/*
+ * Subject -> predicate -> values index over a model. It is built once, on first use, and shared by
+ * all query solutions of the same result, so property lookups no longer scan the whole model. An
+ * index filled from query rows has no model, until one is asked for.
+ */
+public final class ModelIndex {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private volatile Model model;
+
+  private volatile Map<Resource, Map<IRI, Set<Value>>> index;
+
+  public ModelIndex(@NonNull Model model) {
+    this.model = model;
+  }
+
+  private ModelIndex(Map<Resource, Map<IRI, Set<Value>>> index) {
+    this.index = index;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public Model getModel() {
+    Model result = model;
+
+    if (result == null) {
+      synchronized (this) {
+        result = model;
+
+        if (result == null) {
+          result = buildModel(index);
+          model = result;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  public Set<Value> getProperties(@NonNull Resource subject, @NonNull IRI predicate) {
+    return getIndex().getOrDefault(subject, Collections.emptyMap())
+        .getOrDefault(predicate, Collections.emptySet());
+  }
+
+  public boolean isOfAnyType(@NonNull Value value, @NonNull Set<IRI> types) {
+    if (!(value instanceof Resource)) {
+      return false;
+    }
+
+    Set<Value> valueTypes = getProperties((Resource) value, RDF.TYPE);
+
+    for (IRI type : types) {
+      if (valueTypes.contains(type)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  public boolean isEmpty() {
+    Model result = model;
+    return result != null ? result.isEmpty() : getIndex().isEmpty();
+  }
+
+  public int size() {
+    Model result = model;
+
+    if (result != null) {
+      return result.size();
+    }
+
+    return getIndex().values()
+        .stream()
+        .flatMap(properties -> properties.values()
+            .stream())
+        .mapToInt(Set::size)
+        .sum();
+  }
+
+  private Map<Resource, Map<IRI, Set<Value>>> getIndex() {
+    Map<Resource, Map<IRI, Set<Value>>> result = index;
+
+    if (result == null) {
+      synchronized (this) {
+        result = index;
+
+        if (result == null) {
+          result = buildIndex(model);
+          index = result;
+        }
+      }
+    }
+
+    return result;
+  }
+
+  private static Map<Resource, Map<IRI, Set<Value>>> buildIndex(Model model) {
+    Builder builder = new Builder();
+
+    for (Statement statement : model) {
+      builder.add(statement.getSubject(), statement.getPredicate(), statement.getObject());
+    }
+
+    return builder.index;
+  }
+
+  private static Model buildModel(Map<Resource, Map<IRI, Set<Value>>> index) {
+    Model result = new LinkedHashModel();
+
+    index.forEach((subject, properties) -> properties.forEach(
+        (predicate, values) -> values.forEach(value -> result.add(VF.createStatement(subject, predicate, value)))));
+
+    return result.unmodifiable();
+  }
+
+  public static final class Builder {
+
+    private final Map<Resource, Map<IRI, Set<Value>>> index = new HashMap<>();
+
+    private Builder() {}
+
+    public Builder add(@NonNull Resource subject, @NonNull IRI predicate, @NonNull Value value) {
+      index.computeIfAbsent(subject, key -> new HashMap<>())
+          .computeIfAbsent(predicate, key -> new LinkedHashSet<>())
+          .add(value);
+      return this;
+    }
+
+    public Builder addAll(@NonNull ModelIndex modelIndex) {
+      modelIndex.getIndex()
+          .forEach((subject, properties) -> properties
+              .forEach((predicate, values) -> values.forEach(value -> add(subject, predicate, value))));
+      return this;
+    }
+
+    public ModelIndex build() {
+      return new ModelIndex(index);
+    }
+  }
+}
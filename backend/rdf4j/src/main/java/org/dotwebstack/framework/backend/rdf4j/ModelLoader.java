@@ -0,0 +1,218 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.LoaderProperties;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.eclipse.rdf4j.IsolationLevels;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.springframework.core.io.Resource;
+
+/*
+ * Parses model files in parallel and hands batches of statements to a single writer, which adds
+ * them to the repository in large transactions without isolation.
+ */
+@Slf4j
+final class ModelLoader {
+
+  private static final List<Statement> END_OF_INPUT = new ArrayList<>();
+
+  private final LoaderProperties properties;
+
+  ModelLoader(@NonNull LoaderProperties properties) {
+    this.properties = properties;
+  }
+
+  void load(@NonNull Repository repository, @NonNull Resource[] resourceList) {
+    List<Resource> modelResources = Arrays.stream(resourceList)
+        .filter(Resource::isReadable)
+        .filter(resource -> resource.getFilename() != null)
+        .filter(resource -> FileFormats.getFormatForFilename(resource.getFilename()) != null)
+        .collect(Collectors.toList());
+
+    if (modelResources.isEmpty()) {
+      return;
+    }
+
+    int parallelism = Math.min(properties.getParallelism(), modelResources.size());
+    AtomicInteger threadCount = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "model-loader-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    BlockingQueue<List<Statement>> queue = new ArrayBlockingQueue<>(parallelism * 2);
+    AtomicInteger remaining = new AtomicInteger(modelResources.size());
+
+    try {
+      List<Future<?>> parsers = modelResources.stream()
+          .map(modelResource -> executor.submit(() -> {
+            try {
+              parse(modelResource, queue);
+            } finally {
+              if (remaining.decrementAndGet() == 0) {
+                put(queue, END_OF_INPUT);
+              }
+            }
+          }))
+          .collect(Collectors.toList());
+
+      write(repository, queue);
+
+      for (Future<?> parser : parsers) {
+        rethrow(parser);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void parse(Resource modelResource, BlockingQueue<List<Statement>> queue) {
+    String filename = modelResource.getFilename();
+    RDFFormat format = FileFormats.getFormatForFilename(filename);
+    RDFParser parser = Rio.createParser(format);
+    long start = System.nanoTime();
+
+    BatchingHandler handler = new BatchingHandler(queue, properties.getBatchSize());
+    parser.setRDFHandler(handler);
+
+    try (InputStream inputStream = open(modelResource, filename)) {
+      parser.parse(inputStream, "");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while loading data.", e);
+    }
+
+    long duration = Math.max(System.nanoTime() - start, 1);
+    LOG.info("Loaded '{}' into '{}' repository: {} statements in {} ms ({} statements/s)", filename,
+        Rdf4jConfiguration.LOCAL_REPOSITORY_ID, handler.getCount(), TimeUnit.NANOSECONDS.toMillis(duration),
+        handler.getCount() * TimeUnit.SECONDS.toNanos(1) / duration);
+  }
+
+  private void write(Repository repository, BlockingQueue<List<Statement>> queue) {
+    try (RepositoryConnection con = repository.getConnection()) {
+      long uncommitted = 0;
+      con.begin(IsolationLevels.NONE);
+
+      List<Statement> batch = take(queue);
+
+      while (batch != END_OF_INPUT) {
+        con.add(batch);
+        uncommitted += batch.size();
+
+        if (uncommitted >= properties.getCommitSize()) {
+          con.commit();
+          con.begin(IsolationLevels.NONE);
+          uncommitted = 0;
+        }
+
+        batch = take(queue);
+      }
+
+      con.commit();
+    }
+  }
+
+  private static InputStream open(Resource modelResource, String filename) throws IOException {
+    InputStream inputStream = modelResource.getInputStream();
+    return FileFormats.isGzipped(filename) ? new GZIPInputStream(inputStream) : inputStream;
+  }
+
+  private static void rethrow(Future<?> parser) {
+    try {
+      parser.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw new DotWebStackRuntimeException("Error while loading data.", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+      throw new DotWebStackRuntimeException("Interrupted while loading data.", e);
+    }
+  }
+
+  private static List<Statement> take(BlockingQueue<List<Statement>> queue) {
+    try {
+      return queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+      throw new DotWebStackRuntimeException("Interrupted while loading data.", e);
+    }
+  }
+
+  private static void put(BlockingQueue<List<Statement>> queue, List<Statement> batch) {
+    try {
+      queue.put(batch);
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+      throw new DotWebStackRuntimeException("Interrupted while loading data.", e);
+    }
+  }
+
+  private static class BatchingHandler extends AbstractRDFHandler {
+
+    private final BlockingQueue<List<Statement>> queue;
+
+    private final int batchSize;
+
+    private List<Statement> batch;
+
+    private long count;
+
+    BatchingHandler(BlockingQueue<List<Statement>> queue, int batchSize) {
+      this.queue = queue;
+      this.batchSize = batchSize;
+      this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void handleStatement(Statement statement) {
+      batch.add(statement);
+      count++;
+
+      if (batch.size() >= batchSize) {
+        put(queue, batch);
+        batch = new ArrayList<>(batchSize);
+      }
+    }
+
+    @Override
+    public void endRDF() {
+      if (!batch.isEmpty()) {
+        put(queue, batch);
+        batch = new ArrayList<>();
+      }
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+
+}
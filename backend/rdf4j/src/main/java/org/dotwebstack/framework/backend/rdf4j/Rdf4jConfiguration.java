@@ -4,14 +4,26 @@ import static org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeFactory.cre
 import static org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeFactory.processInheritance;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import graphql.schema.DataFetchingEnvironment;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -19,7 +31,9 @@ import java.util.stream.Collectors;
 import lombok.Cleanup;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.QueryProperties;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.RepositoryProperties;
+import org.dotwebstack.framework.backend.rdf4j.reactive.ReactiveSparqlRepositoryAdapter;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
 import org.dotwebstack.framework.core.CoreProperties;
@@ -38,13 +52,17 @@ import org.eclipse.rdf4j.repository.config.RepositoryImplConfig;
 import org.eclipse.rdf4j.repository.manager.LocalRepositoryManager;
 import org.eclipse.rdf4j.repository.sail.config.SailRepositoryConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.sail.memory.config.MemoryStoreConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Slf4j
 @Configuration
@@ -57,29 +75,53 @@ class Rdf4jConfiguration {
 
   private static final String MODEL_PATH_PATTERN = "model/**";
 
+  private static final String CHECKSUM_FILE = "local.sha256";
+
+  private static final String DUMP_FILE = "local.brf";
+
   @Bean
   public ConfigFactory configFactory() {
     return new ConfigFactoryImpl();
   }
 
   @Bean
-  RepositoryAdapter localRepositoryAdapter(LocalRepositoryManager localRepositoryManager) {
+  RepositoryConnectionPool repositoryConnectionPool(@NonNull LocalRepositoryManager localRepositoryManager,
+      @NonNull Rdf4jProperties rdf4jProperties) {
+    return new RepositoryConnectionPool(localRepositoryManager, rdf4jProperties.getConnectionPool());
+  }
+
+  @Bean
+  RepositoryExecutors repositoryExecutors(@NonNull Rdf4jProperties rdf4jProperties) {
+    return new RepositoryExecutors(rdf4jProperties.getExecutor());
+  }
+
+  @Bean
+  RepositoryAdapter localRepositoryAdapter(LocalRepositoryManager localRepositoryManager,
+      RepositoryConnectionPool repositoryConnectionPool) {
     return new RepositoryAdapter() {
       @Override
       public TupleQuery prepareTupleQuery(String repositoryId, DataFetchingEnvironment environment, String query) {
-        return localRepositoryManager.getRepository(repositoryId)
-            .getConnection()
+        return repositoryConnectionPool.getConnection(repositoryId, environment)
             .prepareTupleQuery(query);
       }
 
       @Override
       public GraphQuery prepareGraphQuery(String repositoryId, DataFetchingEnvironment environment, String query,
           List<String> subjectIris) {
-        return localRepositoryManager.getRepository(repositoryId)
-            .getConnection()
+        return repositoryConnectionPool.getConnection(repositoryId, environment)
             .prepareGraphQuery(query);
       }
 
+      @Override
+      public void release(DataFetchingEnvironment environment) {
+        repositoryConnectionPool.release(environment);
+      }
+
+      @Override
+      public Object getCacheScope(String repositoryId, DataFetchingEnvironment environment) {
+        return repositoryId;
+      }
+
       @Override
       public boolean supports(String repositoryId) {
         return localRepositoryManager.hasRepositoryConfig(repositoryId);
@@ -92,6 +134,18 @@ class Rdf4jConfiguration {
     };
   }
 
+  @Bean
+  RepositoryAdapter reactiveSparqlRepositoryAdapter(@NonNull Rdf4jProperties rdf4jProperties,
+      @NonNull ObjectProvider<WebClient.Builder> webClientBuilder) {
+    warnBypassedFeatures(rdf4jProperties);
+
+    WebClient webClient = webClientBuilder.getIfAvailable(WebClient::builder)
+        .clientConnector(ReactiveSparqlRepositoryAdapter.createConnector(rdf4jProperties.getReactive()))
+        .build();
+
+    return new ReactiveSparqlRepositoryAdapter(webClient, rdf4jProperties.getRepositories());
+  }
+
   @Bean
   LocalRepositoryManager localRepositoryManager(@NonNull CoreProperties coreProperties,
       @NonNull Rdf4jProperties rdf4jProperties, @NonNull ConfigFactory configFactory,
@@ -105,14 +159,28 @@ class Rdf4jConfiguration {
 
     // Add & populate local repository
     repositoryManager.addRepositoryConfig(createLocalRepositoryConfig());
-    populateLocalRepository(repositoryManager.getRepository(LOCAL_REPOSITORY_ID), resourceLoader,
-        coreProperties.getResourcePath());
+    Repository localRepository = repositoryManager.getRepository(LOCAL_REPOSITORY_ID);
+    Resource[] resourceList = getModelResources(resourceLoader, coreProperties.getResourcePath());
+    ModelLoader modelLoader = new ModelLoader(rdf4jProperties.getLoader());
+    String snapshotDirectory = rdf4jProperties.getSnapshot()
+        .getDirectory();
+
+    if (snapshotDirectory != null) {
+      populateSnapshot(localRepository, modelLoader, resourceList,
+          Files.createDirectories(Paths.get(snapshotDirectory)));
+    } else {
+      modelLoader.load(localRepository, resourceList);
+    }
 
     // Add repositories from external config
     if (rdf4jProperties.getRepositories() != null) {
       rdf4jProperties.getRepositories()
           .entrySet()
           .stream()
+          // reactive repositories are queried by their own adapter
+          .filter(repositoryProperty -> !ReactiveSparqlRepositoryAdapter.SPARQL_REACTIVE_REPOSITORY_TYPE
+              .equals(repositoryProperty.getValue()
+                  .getType()))
           .map(repositoryProperty -> createRepositoryConfig(repositoryProperty, configFactory))
           .forEach(repositoryManager::addRepositoryConfig);
     }
@@ -123,11 +191,12 @@ class Rdf4jConfiguration {
   @Bean
   NodeShapeRegistry nodeShapeRegistry(@NonNull LocalRepositoryManager localRepositoryManager,
       @NonNull Rdf4jProperties rdf4jProperties) {
-    Repository repository = localRepositoryManager.getRepository(LOCAL_REPOSITORY_ID);
+    @Cleanup
+    RepositoryConnection con = localRepositoryManager.getRepository(LOCAL_REPOSITORY_ID)
+        .getConnection();
 
-    Model shapeModel = QueryResults.asModel(repository.getConnection()
-        .getStatements(null, null, null, rdf4jProperties.getShape()
-            .getGraph()));
+    Model shapeModel = QueryResults.asModel(con.getStatements(null, null, null, rdf4jProperties.getShape()
+        .getGraph()));
     NodeShapeRegistry registry = new NodeShapeRegistry(rdf4jProperties.getShape()
         .getPrefix());
 
@@ -157,45 +226,117 @@ class Rdf4jConfiguration {
     return new RepositoryConfig(repositoryId, repositoryImplConfig);
   }
 
+  /*
+   * Reactive repositories are only queried with a subject and a graph query, so the query options
+   * that do not apply to them are reported at startup.
+   */
+  private static void warnBypassedFeatures(Rdf4jProperties rdf4jProperties) {
+    if (rdf4jProperties.getRepositories() == null) {
+      return;
+    }
+
+    QueryProperties query = rdf4jProperties.getQuery();
+    Map<String, Boolean> features = new LinkedHashMap<>();
+    features.put("query.fused", query.isFused());
+    features.put("query.row-fetch", query.isRowFetch());
+    features.put("query.split-branches", query.isSplitBranches());
+    features.put("result-cache.enabled", rdf4jProperties.getResultCache()
+        .isEnabled());
+    features.put("batch.enabled", rdf4jProperties.getBatch()
+        .isEnabled());
+    List<String> bypassedFeatures = features.entrySet()
+        .stream()
+        .filter(Entry::getValue)
+        .map(Entry::getKey)
+        .collect(Collectors.toList());
+
+    if (bypassedFeatures.isEmpty()) {
+      return;
+    }
+
+    rdf4jProperties.getRepositories()
+        .entrySet()
+        .stream()
+        .filter(
+            repository -> ReactiveSparqlRepositoryAdapter.SPARQL_REACTIVE_REPOSITORY_TYPE.equals(repository.getValue()
+                .getType()))
+        .forEach(repository -> LOG.warn("Repository '{}' is queried reactively, which ignores the options {}",
+            repository.getKey(), bypassedFeatures));
+  }
+
   private static RepositoryConfig createLocalRepositoryConfig() {
     SailRepositoryConfig repositoryConfig = new SailRepositoryConfig(new MemoryStoreConfig());
     return new RepositoryConfig(LOCAL_REPOSITORY_ID, repositoryConfig);
   }
 
-  private static void populateLocalRepository(Repository repository, ResourceLoader resourceLoader, URI resourcePath) {
-    Resource[] resourceList;
-
+  private static Resource[] getModelResources(ResourceLoader resourceLoader, URI resourcePath) {
     try {
-      resourceList = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+      return ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
           .getResources(resourcePath.resolve(MODEL_PATH_PATTERN)
               .toString());
     } catch (IOException e) {
       throw new UncheckedIOException("Error while loading local model.", e);
     }
+  }
 
-    @Cleanup
-    RepositoryConnection con = repository.getConnection();
+  /*
+   * The snapshot is a binary dump of the local repository, which is written once after the model
+   * files have been loaded, so the memory store itself never writes to disk. The checksum of the
+   * model files is written last, so an interrupted rebuild is never reused.
+   */
+  private static void populateSnapshot(Repository repository, ModelLoader modelLoader, Resource[] resourceList,
+      Path snapshotDir) {
+    Path checksumFile = snapshotDir.resolve(CHECKSUM_FILE);
+    Path dumpFile = snapshotDir.resolve(DUMP_FILE);
+    String checksum = createChecksum(resourceList);
+
+    try {
+      if (Files.exists(dumpFile) && Files.exists(checksumFile) && checksum.equals(Files.readString(checksumFile))) {
+        LOG.info("Reusing snapshot of '{}' repository", LOCAL_REPOSITORY_ID);
+        modelLoader.load(repository, new Resource[] {new FileSystemResource(dumpFile.toFile())});
+        return;
+      }
+
+      LOG.info("Model files changed, rebuilding snapshot of '{}' repository", LOCAL_REPOSITORY_ID);
+      Files.deleteIfExists(checksumFile);
+      modelLoader.load(repository, resourceList);
+      writeDump(repository, dumpFile);
+      Files.writeString(checksumFile, checksum);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error while writing local repository snapshot.", e);
+    }
+  }
+
+  private static void writeDump(Repository repository, Path dumpFile) throws IOException {
+    Path tempFile = Files.createTempFile(dumpFile.getParent(), DUMP_FILE, null);
+
+    try (RepositoryConnection con = repository.getConnection();
+        OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+      con.export(Rio.createWriter(RDFFormat.BINARY, outputStream));
+    }
+
+    Files.move(tempFile, dumpFile, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static String createChecksum(Resource[] resourceList) {
+    Hasher hasher = Hashing.sha256()
+        .newHasher();
 
     Arrays.stream(resourceList)
         .filter(Resource::isReadable)
         .filter(resource -> resource.getFilename() != null)
         .forEach(modelResource -> {
-          String fileExtension = Arrays.stream(modelResource.getFilename()
-              .split("\\."))
-              .reduce("", (s1, s2) -> s2);
+          hasher.putString(modelResource.getFilename(), StandardCharsets.UTF_8);
 
-          RDFFormat format = FileFormats.getFormat(fileExtension);
-
-          if (format != null) {
-            LOG.debug("Adding '{}' into '{}' repository", modelResource.getFilename(), LOCAL_REPOSITORY_ID);
-
-            try {
-              con.add(modelResource.getInputStream(), "", format);
-            } catch (IOException e) {
-              throw new UncheckedIOException("Error while loading data.", e);
-            }
+          try (InputStream inputStream = modelResource.getInputStream()) {
+            ByteStreams.copy(inputStream, Funnels.asOutputStream(hasher));
+          } catch (IOException e) {
+            throw new UncheckedIOException("Error while loading data.", e);
           }
         });
+
+    return hasher.hash()
+        .toString();
   }
 
 }
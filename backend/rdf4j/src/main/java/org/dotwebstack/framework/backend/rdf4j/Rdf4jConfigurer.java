@@ -54,6 +54,10 @@ public class Rdf4jConfigurer implements GraphqlConfigurer {
         .inputValueDefinition(newInputValueDefinition().name(Rdf4jDirectives.SPARQL_ARG_ORDER_BY)
             .type(optionalString)
             .build())
+        .inputValueDefinition(newInputValueDefinition().name(Rdf4jDirectives.SPARQL_ARG_FUSED)
+            .type(TypeName.newTypeName(Scalars.GraphQLBoolean.getName())
+                .build())
+            .build())
         .directiveLocation(newDirectiveLocation().name(Introspection.DirectiveLocation.FIELD_DEFINITION.name())
             .build())
         .directiveLocation(newDirectiveLocation().name(Introspection.DirectiveLocation.OBJECT.name())
@@ -1,5 +1,6 @@
 package org.dotwebstack.framework.backend.rdf4j;
 
+import java.util.HashMap;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 import lombok.Getter;
@@ -21,6 +22,22 @@ public class Rdf4jProperties {
 
   private Map<String, RepositoryProperties> repositories;
 
+  private ConnectionPoolProperties connectionPool = new ConnectionPoolProperties();
+
+  private QueryProperties query = new QueryProperties();
+
+  private ResultCacheProperties resultCache = new ResultCacheProperties();
+
+  private ExecutorProperties executor = new ExecutorProperties();
+
+  private BatchProperties batch = new BatchProperties();
+
+  private SnapshotProperties snapshot = new SnapshotProperties();
+
+  private LoaderProperties loader = new LoaderProperties();
+
+  private ReactiveProperties reactive = new ReactiveProperties();
+
   @Getter
   @Setter
   public static class ShapeProperties {
@@ -47,4 +64,112 @@ public class Rdf4jProperties {
 
   }
 
+  @Getter
+  @Setter
+  public static class ConnectionPoolProperties {
+
+    private int maxSize = 16;
+
+    private long acquireTimeout = 30000;
+
+    private long leakDetectionThreshold = 60000;
+
+  }
+
+  @Getter
+  @Setter
+  public static class QueryProperties {
+
+    private boolean fused = false;
+
+    private long planCacheSize = 1000;
+
+    private int chunkSize = 500;
+
+    private boolean splitBranches = false;
+
+    private boolean rowFetch = false;
+
+  }
+
+  @Getter
+  @Setter
+  public static class ResultCacheProperties {
+
+    private boolean enabled = false;
+
+    private long maxWeight = 1000000;
+
+    private long ttl = 60000;
+
+    private long staleWhileRevalidate = 0;
+
+    private Map<String, Long> repositoryTtl = new HashMap<>();
+
+    public long getTtl(String repositoryId) {
+      return repositoryTtl.getOrDefault(repositoryId, ttl);
+    }
+
+  }
+
+  @Getter
+  @Setter
+  public static class ExecutorProperties {
+
+    private int poolSize = 8;
+
+    private int queueCapacity = 64;
+
+    private long keepAlive = 60000;
+
+  }
+
+  @Getter
+  @Setter
+  public static class BatchProperties {
+
+    private boolean enabled = false;
+
+    private long window = 2;
+
+    private int maxSubjects = 100;
+
+  }
+
+  @Getter
+  @Setter
+  public static class SnapshotProperties {
+
+    private String directory;
+
+  }
+
+  @Getter
+  @Setter
+  public static class LoaderProperties {
+
+    private int parallelism = Runtime.getRuntime()
+        .availableProcessors();
+
+    private int batchSize = 10000;
+
+    private long commitSize = 1000000;
+
+  }
+
+  /*
+   * Settings of the web client for repositories of type sparql-reactive. These repositories are
+   * queried with a plain subject and graph query: the fused, cached, batched, row fetch and branch
+   * split paths do not apply to them.
+   */
+  @Getter
+  @Setter
+  public static class ReactiveProperties {
+
+    private int connectTimeout = 5000;
+
+    private long readTimeout = 60000;
+
+  }
+
 }
@@ -0,0 +1,17 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.BindingSet;
+import reactor.core.publisher.Flux;
+
+/*
+ * Repository adapter that evaluates queries without blocking a thread while the repository
+ * responds. The query fetcher evaluates queries on such repositories through the methods below,
+ * instead of preparing queries on a connection.
+ */
+public interface ReactiveRepositoryAdapter extends RepositoryAdapter {
+
+  Flux<BindingSet> evaluateTupleQuery(String repositoryId, String query);
+
+  Flux<Statement> evaluateGraphQuery(String repositoryId, String query);
+}
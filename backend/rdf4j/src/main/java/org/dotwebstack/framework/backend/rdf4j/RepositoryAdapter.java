@@ -14,4 +14,15 @@ public interface RepositoryAdapter {
   boolean supports(String repositoryId);
 
   boolean addGraphQueryValuesBlock();
+
+  default void release(DataFetchingEnvironment environment) {}
+
+  /*
+   * Returns the part of the environment that affects the results of the repository, which the result
+   * cache adds to its key. By default results are only shared within the same GraphQL context;
+   * adapters that evaluate queries the same for every request return a constant.
+   */
+  default Object getCacheScope(String repositoryId, DataFetchingEnvironment environment) {
+    return environment.getContext();
+  }
 }
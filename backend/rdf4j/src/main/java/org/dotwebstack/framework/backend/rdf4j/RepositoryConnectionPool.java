@@ -0,0 +1,234 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ConnectionPoolProperties;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.RepositoryResolver;
+
+@Slf4j
+public class RepositoryConnectionPool implements AutoCloseable {
+
+  private final RepositoryResolver repositoryResolver;
+
+  private final ConnectionPoolProperties properties;
+
+  private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+  private final Map<String, Queue<RepositoryConnection>> idleConnections = new ConcurrentHashMap<>();
+
+  private final Map<Object, Map<String, Lease>> leases = Collections.synchronizedMap(new IdentityHashMap<>());
+
+  private final AtomicInteger activeCount = new AtomicInteger();
+
+  private final AtomicLong acquireCount = new AtomicLong();
+
+  private final AtomicLong waitTimeNanos = new AtomicLong();
+
+  private final AtomicLong leakCount = new AtomicLong();
+
+  public RepositoryConnectionPool(@NonNull RepositoryResolver repositoryResolver,
+      @NonNull ConnectionPoolProperties properties) {
+    this.repositoryResolver = repositoryResolver;
+    this.properties = properties;
+  }
+
+  /*
+   * Returns the connection leased by the scope, or leases one. Concurrent calls within the same scope
+   * share a single lease.
+   */
+  public RepositoryConnection getConnection(@NonNull String repositoryId, @NonNull Object scope) {
+    Map<String, Lease> scopeLeases = leases.computeIfAbsent(scope, key -> new ConcurrentHashMap<>());
+
+    return scopeLeases.computeIfAbsent(repositoryId, id -> new Lease(id, acquire(id), System.currentTimeMillis()))
+        .getConnection();
+  }
+
+  public void release(@NonNull Object scope) {
+    Map<String, Lease> scopeLeases = leases.remove(scope);
+
+    if (scopeLeases != null) {
+      scopeLeases.values()
+          .forEach(this::giveBack);
+    }
+  }
+
+  public int getActiveCount() {
+    return activeCount.get();
+  }
+
+  public long getAcquireCount() {
+    return acquireCount.get();
+  }
+
+  public long getWaitTime(@NonNull TimeUnit unit) {
+    return unit.convert(waitTimeNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getLeakCount() {
+    return leakCount.get();
+  }
+
+  @Override
+  public void close() {
+    List<Object> scopes;
+
+    synchronized (leases) {
+      scopes = new ArrayList<>(leases.keySet());
+    }
+
+    scopes.forEach(this::release);
+
+    idleConnections.values()
+        .forEach(queue -> {
+          RepositoryConnection connection;
+          while ((connection = queue.poll()) != null) {
+            closeQuietly(connection);
+          }
+        });
+  }
+
+  private RepositoryConnection acquire(String repositoryId) {
+    detectLeaks();
+
+    Semaphore semaphore = permits.computeIfAbsent(repositoryId, id -> new Semaphore(properties.getMaxSize(), true));
+    long start = System.nanoTime();
+    boolean acquired;
+
+    try {
+      acquired = semaphore.tryAcquire(properties.getAcquireTimeout(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+      throw new DotWebStackRuntimeException("Interrupted while waiting for a connection to repository '{}'.",
+          repositoryId, e);
+    } finally {
+      long waited = System.nanoTime() - start;
+      waitTimeNanos.addAndGet(waited);
+      acquireCount.incrementAndGet();
+      LOG.debug("Waited {} ms for a connection to repository '{}'", TimeUnit.NANOSECONDS.toMillis(waited),
+          repositoryId);
+    }
+
+    if (!acquired) {
+      throw new DotWebStackRuntimeException("No connection to repository '{}' available within {} ms.", repositoryId,
+          properties.getAcquireTimeout());
+    }
+
+    try {
+      RepositoryConnection connection = pollIdle(repositoryId);
+
+      if (connection == null) {
+        connection = repositoryResolver.getRepository(repositoryId)
+            .getConnection();
+      }
+
+      activeCount.incrementAndGet();
+      return connection;
+    } catch (RuntimeException e) {
+      semaphore.release();
+      throw e;
+    }
+  }
+
+  private RepositoryConnection pollIdle(String repositoryId) {
+    Queue<RepositoryConnection> queue = idleConnections.get(repositoryId);
+
+    if (queue == null) {
+      return null;
+    }
+
+    RepositoryConnection connection;
+    while ((connection = queue.poll()) != null) {
+      if (connection.isOpen()) {
+        return connection;
+      }
+    }
+
+    return null;
+  }
+
+  private void giveBack(Lease lease) {
+    activeCount.decrementAndGet();
+    RepositoryConnection connection = lease.getConnection();
+
+    try {
+      if (connection.isOpen()) {
+        if (connection.isActive()) {
+          connection.rollback();
+        }
+
+        idleConnections.computeIfAbsent(lease.getRepositoryId(), id -> new ConcurrentLinkedQueue<>())
+            .offer(connection);
+      }
+    } catch (RepositoryException e) {
+      LOG.warn("Discarding broken connection to repository '{}'", lease.getRepositoryId(), e);
+      closeQuietly(connection);
+    } finally {
+      permits.get(lease.getRepositoryId())
+          .release();
+    }
+  }
+
+  private void detectLeaks() {
+    long now = System.currentTimeMillis();
+
+    synchronized (leases) {
+      leases.values()
+          .stream()
+          .flatMap(scopeLeases -> scopeLeases.values()
+              .stream())
+          .filter(lease -> !lease.isLeakReported())
+          .filter(lease -> now - lease.getBorrowedAt() > properties.getLeakDetectionThreshold())
+          .forEach(lease -> {
+            lease.setLeakReported(true);
+            leakCount.incrementAndGet();
+            LOG.warn("Connection to repository '{}' is held for more than {} ms without being released",
+                lease.getRepositoryId(), properties.getLeakDetectionThreshold());
+          });
+    }
+  }
+
+  private static void closeQuietly(RepositoryConnection connection) {
+    try {
+      connection.close();
+    } catch (RepositoryException e) {
+      LOG.debug("Error while closing connection", e);
+    }
+  }
+
+  @Getter
+  private static class Lease {
+
+    private final String repositoryId;
+
+    private final RepositoryConnection connection;
+
+    private final long borrowedAt;
+
+    @Setter
+    private boolean leakReported;
+
+    Lease(String repositoryId, RepositoryConnection connection, long borrowedAt) {
+      this.repositoryId = repositoryId;
+      this.connection = connection;
+      this.borrowedAt = borrowedAt;
+    }
+  }
+}
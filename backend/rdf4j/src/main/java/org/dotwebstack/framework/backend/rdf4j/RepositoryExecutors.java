@@ -0,0 +1,135 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.executionRejectedException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ExecutorProperties;
+
+@Slf4j
+public class RepositoryExecutors implements AutoCloseable {
+
+  private final ExecutorProperties properties;
+
+  private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+  private final Map<String, ExecutorStatistics> statistics = new ConcurrentHashMap<>();
+
+  public RepositoryExecutors(@NonNull ExecutorProperties properties) {
+    this.properties = properties;
+  }
+
+  /*
+   * Runs the task on the executor of the given repository. The returned future is completed with the
+   * exception thrown by the task as is, so GraphQL reports the original error message.
+   */
+  public <T> CompletableFuture<T> submit(@NonNull String repositoryId, @NonNull Supplier<T> task) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    ThreadPoolExecutor executor = executors.computeIfAbsent(repositoryId, this::createExecutor);
+    ExecutorStatistics executorStatistics = getStatistics(repositoryId);
+
+    try {
+      executor.execute(() -> {
+        long start = System.nanoTime();
+
+        try {
+          T result = task.get();
+          recordExecution(repositoryId, executorStatistics, start);
+          future.complete(result);
+        } catch (Throwable e) {
+          // errors complete the future as well, so the field never waits for a result that will not come
+          recordExecution(repositoryId, executorStatistics, start);
+          future.completeExceptionally(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      executorStatistics.rejectedCount.incrementAndGet();
+      throw executionRejectedException("Too many pending queries for repository '{}'.", repositoryId, e);
+    }
+
+    return future;
+  }
+
+  public int getQueueDepth(@NonNull String repositoryId) {
+    ThreadPoolExecutor executor = executors.get(repositoryId);
+    return executor != null ? executor.getQueue()
+        .size() : 0;
+  }
+
+  public int getActiveCount(@NonNull String repositoryId) {
+    ThreadPoolExecutor executor = executors.get(repositoryId);
+    return executor != null ? executor.getActiveCount() : 0;
+  }
+
+  public long getExecutionCount(@NonNull String repositoryId) {
+    return getStatistics(repositoryId).executionCount.get();
+  }
+
+  public long getExecutionTime(@NonNull String repositoryId, @NonNull TimeUnit unit) {
+    return unit.convert(getStatistics(repositoryId).executionTimeNanos.get(), TimeUnit.NANOSECONDS);
+  }
+
+  public long getRejectedCount(@NonNull String repositoryId) {
+    return getStatistics(repositoryId).rejectedCount.get();
+  }
+
+  @Override
+  public void close() {
+    executors.values()
+        .forEach(ThreadPoolExecutor::shutdown);
+  }
+
+  /*
+   * Recorded before the future completes, so callers see the execution as soon as they have the
+   * result.
+   */
+  private static void recordExecution(String repositoryId, ExecutorStatistics executorStatistics, long start) {
+    long duration = System.nanoTime() - start;
+    executorStatistics.executionTimeNanos.addAndGet(duration);
+    executorStatistics.executionCount.incrementAndGet();
+    LOG.debug("Executed query on repository '{}' in {} ms", repositoryId, TimeUnit.NANOSECONDS.toMillis(duration));
+  }
+
+  private ExecutorStatistics getStatistics(String repositoryId) {
+    return statistics.computeIfAbsent(repositoryId, key -> new ExecutorStatistics());
+  }
+
+  private ThreadPoolExecutor createExecutor(String repositoryId) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+        properties.getKeepAlive(), TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        createThreadFactory(repositoryId));
+    executor.allowCoreThreadTimeOut(true);
+
+    return executor;
+  }
+
+  private static ThreadFactory createThreadFactory(String repositoryId) {
+    AtomicInteger threadCount = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, "sparql-" + repositoryId + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static class ExecutorStatistics {
+
+    private final AtomicLong executionCount = new AtomicLong();
+
+    private final AtomicLong executionTimeNanos = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+  }
+}
@@ -1,6 +1,7 @@
 package org.dotwebstack.framework.backend.rdf4j.converters;
 
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
 import org.springframework.stereotype.Component;
@@ -8,8 +9,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class BooleanConverter extends LiteralConverter<Boolean> {
 
-  public boolean supportsLiteral(@NonNull Literal literal) {
-    return XMLSchema.BOOLEAN.equals(literal.getDatatype());
+  @Override
+  public IRI getDatatype() {
+    return XMLSchema.BOOLEAN;
   }
 
   public Boolean convertLiteral(@NonNull Literal literal) {
@@ -2,6 +2,7 @@ package org.dotwebstack.framework.backend.rdf4j.converters;
 
 import java.math.BigDecimal;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
 import org.springframework.stereotype.Component;
@@ -10,8 +11,8 @@ import org.springframework.stereotype.Component;
 public class DecimalConverter extends LiteralConverter<BigDecimal> {
 
   @Override
-  public boolean supportsLiteral(@NonNull Literal literal) {
-    return XMLSchema.DECIMAL.equals(literal.getDatatype());
+  public IRI getDatatype() {
+    return XMLSchema.DECIMAL;
   }
 
   public BigDecimal convertLiteral(@NonNull Literal literal) {
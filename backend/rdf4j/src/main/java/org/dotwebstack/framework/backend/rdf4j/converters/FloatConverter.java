@@ -1,6 +1,7 @@
 package org.dotwebstack.framework.backend.rdf4j.converters;
 
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
 import org.springframework.stereotype.Component;
@@ -9,8 +10,8 @@ import org.springframework.stereotype.Component;
 public class FloatConverter extends LiteralConverter<Float> {
 
   @Override
-  public boolean supportsLiteral(@NonNull Literal literal) {
-    return XMLSchema.FLOAT.equals(literal.getDatatype());
+  public IRI getDatatype() {
+    return XMLSchema.FLOAT;
   }
 
   @Override
@@ -2,6 +2,7 @@ package org.dotwebstack.framework.backend.rdf4j.converters;
 
 import java.math.BigInteger;
 import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
 import org.springframework.stereotype.Component;
@@ -10,8 +11,8 @@ import org.springframework.stereotype.Component;
 public class IntegerConverter extends LiteralConverter<BigInteger> {
 
   @Override
-  public boolean supportsLiteral(@NonNull Literal literal) {
-    return XMLSchema.INTEGER.equals(literal.getDatatype());
+  public IRI getDatatype() {
+    return XMLSchema.INTEGER;
   }
 
   @Override
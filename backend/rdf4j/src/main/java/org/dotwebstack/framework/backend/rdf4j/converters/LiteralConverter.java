@@ -2,6 +2,7 @@ package org.dotwebstack.framework.backend.rdf4j.converters;
 
 import lombok.NonNull;
 import org.dotwebstack.framework.core.converters.CoreConverter;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
 
@@ -21,7 +22,18 @@ public abstract class LiteralConverter<O> implements CoreConverter<Value, O> {
     return convertLiteral((Literal) value);
   }
 
-  public abstract boolean supportsLiteral(@NonNull Literal literal);
+  /*
+   * Returns the single datatype supported by this converter, which allows the router to look it up
+   * directly. Converters with dynamic support return null and override supportsLiteral instead.
+   */
+  public IRI getDatatype() {
+    return null;
+  }
+
+  public boolean supportsLiteral(@NonNull Literal literal) {
+    IRI datatype = getDatatype();
+    return datatype != null && datatype.equals(literal.getDatatype());
+  }
 
   public abstract O convertLiteral(@NonNull Literal literal);
 
@@ -1,29 +1,90 @@
 package org.dotwebstack.framework.backend.rdf4j.converters;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import org.dotwebstack.framework.core.converters.CoreConverter;
 import org.dotwebstack.framework.core.converters.CoreConverterRouter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class Rdf4jConverterRouter implements CoreConverterRouter {
 
-  private final List<CoreConverter<Value, ?>> converters;
+  private final Map<IRI, RankedConverter> literalConverters = new HashMap<>();
 
+  private RankedConverter iriConverter;
+
+  private final List<RankedConverter> dynamicConverters = new ArrayList<>();
+
+  /*
+   * Converters supporting a single datatype, or all IRIs, are looked up by the kind and datatype of
+   * the value. Only the remaining converters are matched by calling supports on each of them. The
+   * first supporting converter in the given order still wins, so a dynamic converter registered
+   * before a built-in one overrides it.
+   */
   public Rdf4jConverterRouter(List<CoreConverter<Value, ?>> converters) {
-    this.converters = converters;
+    for (int position = 0; position < converters.size(); position++) {
+      CoreConverter<Value, ?> converter = converters.get(position);
+      RankedConverter rankedConverter = new RankedConverter(position, converter);
+
+      if (converter instanceof LiteralConverter && ((LiteralConverter<?>) converter).getDatatype() != null) {
+        literalConverters.putIfAbsent(((LiteralConverter<?>) converter).getDatatype(), rankedConverter);
+      } else if (converter instanceof IriConverter) {
+        if (iriConverter == null) {
+          iriConverter = rankedConverter;
+        }
+      } else {
+        dynamicConverters.add(rankedConverter);
+      }
+    }
   }
 
   @Override
   public Object convert(Object object) {
-    Optional<CoreConverter<Value, ?>> compatibleConverter = converters.stream()
-        .filter(converter -> converter.supports((Value) object))
-        .findFirst();
+    Value value = (Value) object;
+    CoreConverter<Value, ?> converter = getConverter(value);
+
+    return converter != null ? converter.convert(value) : DefaultConverter.convert(value);
+  }
+
+  private CoreConverter<Value, ?> getConverter(Value value) {
+    RankedConverter fixedConverter = null;
+
+    if (value instanceof Literal) {
+      fixedConverter = literalConverters.get(((Literal) value).getDatatype());
+    } else if (value instanceof IRI) {
+      fixedConverter = iriConverter;
+    }
+
+    int fixedPosition = fixedConverter != null ? fixedConverter.position : Integer.MAX_VALUE;
+
+    for (RankedConverter dynamicConverter : dynamicConverters) {
+      if (dynamicConverter.position > fixedPosition) {
+        break;
+      }
+
+      if (dynamicConverter.converter.supports(value)) {
+        return dynamicConverter.converter;
+      }
+    }
+
+    return fixedConverter != null ? fixedConverter.converter : null;
+  }
+
+  private static final class RankedConverter {
+
+    private final int position;
+
+    private final CoreConverter<Value, ?> converter;
 
-    return compatibleConverter.isPresent() ? compatibleConverter.get()
-        .convert((Value) object) : DefaultConverter.convert((Value) object);
+    private RankedConverter(int position, CoreConverter<Value, ?> converter) {
+      this.position = position;
+      this.converter = converter;
+    }
   }
 
 }
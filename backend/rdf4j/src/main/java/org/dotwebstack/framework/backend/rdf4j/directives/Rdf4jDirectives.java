@@ -16,6 +16,8 @@ public final class Rdf4jDirectives {
 
   public static final String SPARQL_ARG_ORDER_BY = "orderBy";
 
+  public static final String SPARQL_ARG_FUSED = "fused";
+
   private Rdf4jDirectives() {}
 
 }
@@ -13,15 +13,21 @@ import graphql.schema.idl.SchemaDirectiveWiringEnvironment;
 import java.util.List;
 import java.util.Map;
 import lombok.NonNull;
-import org.apache.commons.jexl3.JexlEngine;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.QueryProperties;
 import org.dotwebstack.framework.backend.rdf4j.RepositoryAdapter;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryExecutors;
+import org.dotwebstack.framework.backend.rdf4j.query.GraphBranchMetrics;
+import org.dotwebstack.framework.backend.rdf4j.query.GraphQueryBatcher;
 import org.dotwebstack.framework.backend.rdf4j.query.QueryFetcher;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryPlanCache;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryResultCache;
 import org.dotwebstack.framework.backend.rdf4j.query.context.ConstructVerticeFactory;
 import org.dotwebstack.framework.backend.rdf4j.query.context.SelectVerticeFactory;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 import org.dotwebstack.framework.core.directives.DirectiveUtils;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.core.traversers.CoreTraverser;
 import org.dotwebstack.framework.core.validators.ConstraintValidator;
 import org.dotwebstack.framework.core.validators.SortFieldValidator;
@@ -36,7 +42,7 @@ public class SparqlDirectiveWiring implements SchemaDirectiveWiring {
 
   private final Map<String, String> prefixMap;
 
-  private final JexlEngine jexlEngine;
+  private final JexlRegistry jexlRegistry;
 
   private ConstraintValidator constraintValidator;
 
@@ -46,19 +52,42 @@ public class SparqlDirectiveWiring implements SchemaDirectiveWiring {
 
   private final ConstructVerticeFactory constructVerticeFactory;
 
+  private final QueryPlanCache queryPlanCache;
+
+  private final QueryResultCache queryResultCache;
+
+  private final RepositoryExecutors repositoryExecutors;
+
+  private final GraphQueryBatcher graphQueryBatcher;
+
+  private final boolean fused;
+
+  private final GraphBranchMetrics graphBranchMetrics;
+
+  private final QueryProperties queryProperties;
+
   public SparqlDirectiveWiring(List<RepositoryAdapter> repositoryAdapters, NodeShapeRegistry nodeShapeRegistry,
-      Rdf4jProperties rdf4jProperties, JexlEngine jexlEngine, ConstraintValidator constraintValidator,
+      Rdf4jProperties rdf4jProperties, JexlRegistry jexlRegistry, ConstraintValidator constraintValidator,
       CoreTraverser coreTraverser, SelectVerticeFactory selectVerticeFactory,
-      ConstructVerticeFactory constructVerticeFactory) {
+      ConstructVerticeFactory constructVerticeFactory, QueryPlanCache queryPlanCache, QueryResultCache queryResultCache,
+      RepositoryExecutors repositoryExecutors, GraphQueryBatcher graphQueryBatcher,
+      GraphBranchMetrics graphBranchMetrics) {
     this.repositoryAdapters = repositoryAdapters;
     this.nodeShapeRegistry = nodeShapeRegistry;
     this.prefixMap = rdf4jProperties.getPrefixes() != null ? HashBiMap.create(rdf4jProperties.getPrefixes())
         .inverse() : ImmutableMap.of();
-    this.jexlEngine = jexlEngine;
+    this.jexlRegistry = jexlRegistry;
     this.constraintValidator = constraintValidator;
     this.coreTraverser = coreTraverser;
     this.selectVerticeFactory = selectVerticeFactory;
     this.constructVerticeFactory = constructVerticeFactory;
+    this.queryPlanCache = queryPlanCache;
+    this.queryResultCache = queryResultCache;
+    this.repositoryExecutors = repositoryExecutors;
+    this.graphQueryBatcher = graphQueryBatcher;
+    this.graphBranchMetrics = graphBranchMetrics;
+    this.queryProperties = rdf4jProperties.getQuery();
+    this.fused = queryProperties.isFused();
   }
 
   @Override
@@ -78,14 +107,17 @@ public class SparqlDirectiveWiring implements SchemaDirectiveWiring {
         .findFirst()
         .orElseThrow(() -> new InvalidConfigurationException("Repository '{}' was never configured.", repositoryId));
 
-
     // startup time validation of default values for sort fields
     SortFieldValidator sortFieldValidator = new SortFieldValidator(coreTraverser, environment.getRegistry());
     validateSortField(fieldDefinition, sortFieldValidator);
 
-    QueryFetcher queryFetcher = new QueryFetcher(supportedAdapter, nodeShapeRegistry, prefixMap, jexlEngine,
+    Boolean fusedArgument =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_FUSED, environment.getDirective(), Boolean.class);
+
+    QueryFetcher queryFetcher = new QueryFetcher(supportedAdapter, nodeShapeRegistry, prefixMap, jexlRegistry,
         ImmutableList.of(constraintValidator, sortFieldValidator), coreTraverser, selectVerticeFactory,
-        constructVerticeFactory);
+        constructVerticeFactory, queryPlanCache, queryResultCache, repositoryExecutors, graphQueryBatcher,
+        graphBranchMetrics, queryProperties, fusedArgument != null ? fusedArgument : fused);
 
     environment.getCodeRegistry()
         .dataFetcher(environment.getFieldsContainer(), fieldDefinition, queryFetcher);
@@ -0,0 +1,30 @@
+package org.dotwebstack.framework.backend.rdf4j.directives;
+
+import graphql.schema.idl.TypeDefinitionRegistry;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import org.dotwebstack.framework.core.directives.DirectiveUtils;
+import org.dotwebstack.framework.core.jexl.JexlSourceProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SparqlExpressionProvider implements JexlSourceProvider {
+
+  private final TypeDefinitionRegistry typeDefinitionRegistry;
+
+  public SparqlExpressionProvider(@NonNull TypeDefinitionRegistry typeDefinitionRegistry) {
+    this.typeDefinitionRegistry = typeDefinitionRegistry;
+  }
+
+  @Override
+  public Collection<String> getExpressions() {
+    return Stream
+        .of(Rdf4jDirectives.SPARQL_ARG_LIMIT, Rdf4jDirectives.SPARQL_ARG_OFFSET, Rdf4jDirectives.SPARQL_ARG_ORDER_BY)
+        .flatMap(argumentName -> DirectiveUtils
+            .getFieldArguments(typeDefinitionRegistry, Rdf4jDirectives.SPARQL_NAME, argumentName)
+            .stream())
+        .collect(Collectors.toSet());
+  }
+}
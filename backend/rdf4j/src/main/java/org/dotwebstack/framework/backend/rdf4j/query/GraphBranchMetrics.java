@@ -0,0 +1,56 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ * Rows and time per branch of split queries. For graph queries, a row is a statement of the query
+ * result, before duplicates are merged into the model.
+ */
+@Slf4j
+@Component
+public class GraphBranchMetrics {
+
+  private final Map<String, BranchStatistics> branches = new ConcurrentHashMap<>();
+
+  public Map<String, BranchStatistics> getBranches() {
+    return Collections.unmodifiableMap(branches);
+  }
+
+  void record(@NonNull String branch, int rowCount, long durationNanos) {
+    BranchStatistics statistics = branches.computeIfAbsent(branch, key -> new BranchStatistics());
+    statistics.fetchCount.incrementAndGet();
+    statistics.rowCount.addAndGet(rowCount);
+    statistics.timeNanos.addAndGet(durationNanos);
+
+    LOG.debug("Fetched [{}] rows for branch '{}' in {} ms", rowCount, branch,
+        TimeUnit.NANOSECONDS.toMillis(durationNanos));
+  }
+
+  public static final class BranchStatistics {
+
+    private final AtomicLong fetchCount = new AtomicLong();
+
+    private final AtomicLong rowCount = new AtomicLong();
+
+    private final AtomicLong timeNanos = new AtomicLong();
+
+    public long getFetchCount() {
+      return fetchCount.get();
+    }
+
+    public long getRowCount() {
+      return rowCount.get();
+    }
+
+    public long getTimeNanos() {
+      return timeNanos.get();
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.BatchProperties;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryAdapter;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryExecutors;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class GraphQueryBatcher implements DisposableBean {
+
+  private static final String BATCH_EXECUTOR_SUFFIX = ":batches";
+
+  private final BatchProperties properties;
+
+  private final RepositoryExecutors repositoryExecutors;
+
+  private final ScheduledExecutorService windowScheduler;
+
+  private final Map<Object, Batch> openBatches = new ConcurrentHashMap<>();
+
+  private final AtomicLong queryCount = new AtomicLong();
+
+  private final AtomicLong fetchCount = new AtomicLong();
+
+  public GraphQueryBatcher(@NonNull Rdf4jProperties rdf4jProperties, @NonNull RepositoryExecutors repositoryExecutors) {
+    this.properties = rdf4jProperties.getBatch();
+    this.repositoryExecutors = repositoryExecutors;
+    this.windowScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "sparql-batch-window");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  public long getQueryCount() {
+    return queryCount.get();
+  }
+
+  public long getFetchCount() {
+    return fetchCount.get();
+  }
+
+  @Override
+  public void destroy() {
+    windowScheduler.shutdownNow();
+  }
+
+  /*
+   * Fetches the graph for the subjects together with concurrent fetches of the same query in the same
+   * cache scope of the adapter. The batch closes when the window elapses or the batch is full, after
+   * which the graph for the subjects of all callers is loaded in one query on the batch executor of
+   * the repository, in a connection scope of its own. Every caller receives the part of the model its
+   * own query would have constructed, and counts the statements of that part as its rows. No thread
+   * waits for the window.
+   */
+  CompletableFuture<Model> fetch(@NonNull RepositoryAdapter repositoryAdapter, @NonNull String repositoryId,
+      @NonNull DataFetchingEnvironment environment, @NonNull GraphQueryPlan graphQueryPlan, @NonNull List<IRI> subjects,
+      @NonNull GraphLoader loader, @NonNull IntConsumer rowCounter) {
+    fetchCount.incrementAndGet();
+
+    if (!isEnabled()) {
+      queryCount.incrementAndGet();
+      return CompletableFuture.completedFuture(loader.load(environment, subjects, rowCounter));
+    }
+
+    List<Object> key = Arrays.asList(repositoryId, repositoryAdapter.getCacheScope(repositoryId, environment),
+        graphQueryPlan.getTemplate());
+
+    while (true) {
+      Batch batch = openBatches.computeIfAbsent(key, k -> new Batch());
+      int position = batch.add(subjects, properties.getMaxSubjects());
+
+      if (position < 0) {
+        openBatches.remove(key, batch);
+        continue;
+      }
+
+      if (position == 0) {
+        open(key, batch, repositoryAdapter, repositoryId, environment, loader);
+      }
+
+      if (batch.isFull(properties.getMaxSubjects())) {
+        close(key, batch);
+      }
+
+      return batch.result.thenApply(model -> {
+        if (batch.getCallers() == 1) {
+          rowCounter.accept(batch.rowCount.get());
+          return model;
+        }
+
+        Model part = extract(model, graphQueryPlan, subjects);
+        rowCounter.accept(part.size());
+        return part;
+      });
+    }
+  }
+
+  private void open(Object key, Batch batch, RepositoryAdapter repositoryAdapter, String repositoryId,
+      DataFetchingEnvironment environment, GraphLoader loader) {
+    windowScheduler.schedule(() -> close(key, batch), properties.getWindow(), TimeUnit.MILLISECONDS);
+
+    batch.subjectsReady.thenCompose(batchSubjects -> {
+      queryCount.incrementAndGet();
+      LOG.debug("Fetching graph for {} subjects of {} callers in one query", batchSubjects.size(), batch.getCallers());
+      return repositoryExecutors.submit(repositoryId + BATCH_EXECUTOR_SUFFIX, () -> {
+        // the batch outlives the fetch of the caller that opened it, so it does not use that caller's scope
+        DataFetchingEnvironment scope = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment)
+            .build();
+
+        try {
+          return loader.load(scope, batchSubjects, batch.rowCount::addAndGet);
+        } finally {
+          repositoryAdapter.release(scope);
+        }
+      });
+    })
+        .whenComplete((model, exception) -> {
+          if (exception != null) {
+            batch.result.completeExceptionally(exception);
+          } else {
+            batch.result.complete(model);
+          }
+        });
+  }
+
+  private void close(Object key, Batch batch) {
+    openBatches.remove(key, batch);
+    batch.close();
+  }
+
+  /*
+   * Copies the statements the construct patterns of the plan produce for the given subjects,
+   * following the patterns from the subject variable. Plans without patterns fall back to all
+   * statements reachable from the subjects.
+   */
+  static Model extract(Model model, GraphQueryPlan graphQueryPlan, List<IRI> subjects) {
+    List<TripleTemplate> tripleTemplates = graphQueryPlan.getTripleTemplates();
+
+    if (tripleTemplates.isEmpty()) {
+      return extractReachable(model, subjects);
+    }
+
+    Model result = new LinkedHashModel();
+    Map<String, Set<Resource>> bindings = new HashMap<>();
+    bindings.put(graphQueryPlan.getSubjectVariable()
+        .getQueryString(), new HashSet<>(subjects));
+
+    // templates are ordered from parent to child, so every template subject is bound first
+    for (TripleTemplate tripleTemplate : tripleTemplates) {
+      Set<Resource> templateSubjects = bindings.getOrDefault(tripleTemplate.getSubject()
+          .getQueryString(), Set.of());
+      Set<Resource> templateObjects = bindings.computeIfAbsent(tripleTemplate.getObject()
+          .getQueryString(), variable -> new HashSet<>());
+
+      for (Resource subject : templateSubjects) {
+        for (Statement statement : model.filter(subject, tripleTemplate.getPredicate(), null)) {
+          result.add(statement);
+
+          if (statement.getObject() instanceof Resource) {
+            templateObjects.add((Resource) statement.getObject());
+          }
+        }
+      }
+    }
+
+    return result.unmodifiable();
+  }
+
+  private static Model extractReachable(Model model, List<IRI> subjects) {
+    Model result = new LinkedHashModel();
+    Deque<Resource> pending = new ArrayDeque<>(subjects);
+    Set<Resource> visited = new HashSet<>();
+
+    while (!pending.isEmpty()) {
+      Resource resource = pending.pop();
+
+      if (!visited.add(resource)) {
+        continue;
+      }
+
+      for (Statement statement : model.filter(resource, null, null)) {
+        result.add(statement);
+
+        if (statement.getObject() instanceof Resource) {
+          pending.push((Resource) statement.getObject());
+        }
+      }
+    }
+
+    return result.unmodifiable();
+  }
+
+  @FunctionalInterface
+  interface GraphLoader {
+
+    Model load(DataFetchingEnvironment environment, List<IRI> subjects, IntConsumer rowCounter);
+  }
+
+  private static final class Batch {
+
+    private final Set<IRI> subjects = new LinkedHashSet<>();
+
+    private final CompletableFuture<List<IRI>> subjectsReady = new CompletableFuture<>();
+
+    private final CompletableFuture<Model> result = new CompletableFuture<>();
+
+    private final AtomicInteger rowCount = new AtomicInteger();
+
+    private boolean closed;
+
+    private int callers;
+
+    synchronized int add(List<IRI> newSubjects, int maxSubjects) {
+      if (closed || (callers > 0 && subjects.size() + newSubjects.size() > maxSubjects)) {
+        return -1;
+      }
+
+      subjects.addAll(newSubjects);
+      return callers++;
+    }
+
+    synchronized boolean isFull(int maxSubjects) {
+      return subjects.size() >= maxSubjects;
+    }
+
+    synchronized int getCallers() {
+      return callers;
+    }
+
+    void close() {
+      List<IRI> batchSubjects;
+
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+
+        closed = true;
+        batchSubjects = List.copyOf(subjects);
+      }
+
+      subjectsReady.complete(batchSubjects);
+    }
+  }
+}
@@ -1,63 +1,134 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
+import graphql.schema.SelectedField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.dotwebstack.framework.backend.rdf4j.query.context.ConstructVerticeFactory;
+import org.dotwebstack.framework.backend.rdf4j.query.context.OrderKey;
 import org.dotwebstack.framework.backend.rdf4j.query.context.Vertice;
 import org.dotwebstack.framework.backend.rdf4j.query.context.VerticeHelper;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.core.query.ConstructQuery;
 import org.eclipse.rdf4j.sparqlbuilder.core.query.Queries;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
+import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPatterns;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.TriplePattern;
+import org.eclipse.rdf4j.sparqlbuilder.rdf.Rdf;
 
 class GraphQueryBuilder extends AbstractQueryBuilder<ConstructQuery> {
 
-  private final List<IRI> subjects;
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final String FUSED_NAMESPACE = "http://www.dotwebstack.org/fused#";
+
+  static final IRI SELECTED_SUBJECT = VF.createIRI(FUSED_NAMESPACE, "subject");
 
   private final ConstructVerticeFactory constructVerticeFactory;
 
-  private GraphQueryBuilder(@NonNull QueryEnvironment environment, @NonNull List<IRI> subjects,
+  private GraphQueryBuilder(@NonNull QueryEnvironment environment,
       @NonNull ConstructVerticeFactory constructVerticeFactory) {
     super(environment, Queries.CONSTRUCT());
-    this.subjects = subjects;
     this.constructVerticeFactory = constructVerticeFactory;
   }
 
-  static GraphQueryBuilder create(QueryEnvironment environment, List<IRI> subjects,
+  static GraphQueryBuilder create(QueryEnvironment environment,
       @NonNull ConstructVerticeFactory constructVerticeFactory) {
-    return new GraphQueryBuilder(environment, subjects, constructVerticeFactory);
+    return new GraphQueryBuilder(environment, constructVerticeFactory);
+  }
+
+  static List<Object> planKey(QueryEnvironment environment, int orderKeyCount) {
+    List<Object> selectionShape = environment.getSelectionSet()
+        .getFields()
+        .stream()
+        .map(field -> Arrays.asList(field.getQualifiedName(), field.getArguments()))
+        .collect(Collectors.toList());
+
+    return Arrays.asList(GraphQueryBuilder.class, environment.getFieldDefinition(), selectionShape, orderKeyCount);
+  }
+
+  static List<Object> branchesKey(QueryEnvironment environment) {
+    return Arrays.asList(planKey(environment, -1), "branches");
   }
 
-  String getQueryString(boolean addValuesBlock) {
+  /*
+   * Compiles a graph query per branch of the selection, see ConstructVerticeFactory.splitBranches.
+   */
+  static Map<String, GraphQueryPlan> compileBranches(QueryEnvironment environment,
+      @NonNull ConstructVerticeFactory constructVerticeFactory) {
     NodeShape nodeShape = environment.getNodeShapeRegistry()
         .get(environment.getObjectType());
 
-    Variable subjectVariable = query.var();
+    Map<String, GraphQueryPlan> plans = new LinkedHashMap<>();
+    constructVerticeFactory.splitBranches(nodeShape, environment.getSelectionSet()
+        .getFields())
+        .forEach(
+            (branch, fields) -> plans.put(branch, create(environment, constructVerticeFactory).compileFields(fields)));
+
+    return plans;
+  }
+
+  GraphQueryPlan compile() {
+    return compileFields(environment.getSelectionSet()
+        .getFields());
+  }
 
-    Vertice root = constructVerticeFactory.createRoot(subjectVariable, query, nodeShape, environment.getSelectionSet()
+  /*
+   * Compiles the graph query for fusing with the subject selection: the subject query becomes a
+   * sub-select on binding, the graph patterns are made optional so every selected subject is kept,
+   * and the selected subjects and their order keys are marked in the constructed model.
+   */
+  GraphQueryPlan compile(List<OrderKey> orderKeys) {
+    Variable subjectVariable = SubjectQueryBuilder.SUBJECT_VAR;
+    Vertice root = createRoot(subjectVariable, environment.getSelectionSet()
         .getFields());
 
+    List<TriplePattern> constructPatterns = new ArrayList<>(VerticeHelper.getConstructPatterns(root));
+    constructPatterns.add(GraphPatterns.tp(subjectVariable, Rdf.iri(SELECTED_SUBJECT), subjectVariable));
+
+    for (int i = 0; i < orderKeys.size(); i++) {
+      constructPatterns.add(GraphPatterns.tp(subjectVariable, Rdf.iri(orderKeyPredicate(i)),
+          SparqlBuilder.var(SubjectQueryBuilder.ORDER_VAR_PREFIX + i)));
+    }
+
+    query.construct(constructPatterns.toArray(new TriplePattern[] {}))
+        .where(GraphPatterns.and(VerticeHelper.getWherePatterns(root)
+            .toArray(new GraphPattern[] {}))
+            .optional());
+
+    return new GraphQueryPlan(query.getQueryString(), subjectVariable);
+  }
+
+  private GraphQueryPlan compileFields(List<SelectedField> fields) {
+    Variable subjectVariable = query.var();
+    Vertice root = createRoot(subjectVariable, fields);
+
     query.construct(VerticeHelper.getConstructPatterns(root)
         .toArray(new TriplePattern[] {}))
         .where(VerticeHelper.getWherePatterns(root)
             .toArray(new GraphPattern[] {}));
 
-    String queryString = query.getQueryString();
-    if (addValuesBlock) {
-      queryString = queryString.replace("WHERE {", "WHERE {" + createValuesBlock(subjects, subjectVariable));
-    }
+    return new GraphQueryPlan(query.getQueryString(), subjectVariable, VerticeHelper.getTripleTemplates(root)
+        .orElse(List.of()));
+  }
+
+  private Vertice createRoot(Variable subjectVariable, List<SelectedField> fields) {
+    NodeShape nodeShape = environment.getNodeShapeRegistry()
+        .get(environment.getObjectType());
 
-    return queryString;
+    return constructVerticeFactory.createRoot(subjectVariable, query, nodeShape, fields);
   }
 
-  private String createValuesBlock(List<IRI> subjects, Variable subjectVariable) {
-    String subjectString = subjects.stream()
-        .map(iri -> "<" + iri + ">")
-        .collect(Collectors.joining(" "));
-    return String.format("VALUES %s {%s} ", subjectVariable.getQueryString(), subjectString);
+  static IRI orderKeyPredicate(int index) {
+    return VF.createIRI(FUSED_NAMESPACE, "orderKey" + index);
   }
 }
@@ -0,0 +1,50 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+
+@Getter
+final class GraphQueryPlan {
+
+  private static final String WHERE_CLAUSE = "WHERE {";
+
+  private final String template;
+
+  private final Variable subjectVariable;
+
+  private final List<TripleTemplate> tripleTemplates;
+
+  GraphQueryPlan(String template, Variable subjectVariable) {
+    this(template, subjectVariable, List.of());
+  }
+
+  GraphQueryPlan(String template, Variable subjectVariable, List<TripleTemplate> tripleTemplates) {
+    this.template = template;
+    this.subjectVariable = subjectVariable;
+    this.tripleTemplates = tripleTemplates;
+  }
+
+  String bind(List<IRI> subjects, boolean addValuesBlock, IriCompactor iriCompactor) {
+    if (!addValuesBlock) {
+      return template;
+    }
+
+    Map<String, String> usedPrefixes = new TreeMap<>();
+    String subjectString = subjects.stream()
+        .map(iri -> iriCompactor.compact(iri, usedPrefixes))
+        .collect(Collectors.joining(" "));
+
+    return IriCompactor.declarations(usedPrefixes) + template.replace(WHERE_CLAUSE,
+        WHERE_CLAUSE + String.format("VALUES %s {%s} ", subjectVariable.getQueryString(), subjectString));
+  }
+
+  String bind(String subjectQuery) {
+    return template.replace(WHERE_CLAUSE, String.format("%s { %s } ", WHERE_CLAUSE, subjectQuery));
+  }
+}
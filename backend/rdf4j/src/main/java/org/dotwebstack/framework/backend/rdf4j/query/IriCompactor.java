@@ -0,0 +1,59 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+
+/*
+ * Writes IRIs as prefixed names of the configured namespaces, so large VALUES blocks only repeat
+ * the local names. IRIs without a matching namespace, or with a local name that needs escaping, are
+ * written in full.
+ */
+final class IriCompactor {
+
+  private static final Pattern LOCAL_NAME = Pattern.compile("[A-Za-z0-9_]([A-Za-z0-9_.-]*[A-Za-z0-9_-])?");
+
+  private final List<Map.Entry<String, String>> namespaces;
+
+  IriCompactor(@NonNull Map<String, String> prefixMap) {
+    // longest namespace first, so nested namespaces resolve to the most specific prefix
+    this.namespaces = prefixMap.entrySet()
+        .stream()
+        .sorted(Comparator.comparing((Map.Entry<String, String> entry) -> entry.getKey()
+            .length())
+            .reversed())
+        .collect(Collectors.toList());
+  }
+
+  String compact(IRI iri, Map<String, String> usedPrefixes) {
+    String value = iri.stringValue();
+
+    for (Map.Entry<String, String> namespace : namespaces) {
+      if (!value.startsWith(namespace.getKey())) {
+        continue;
+      }
+
+      String localName = value.substring(namespace.getKey()
+          .length());
+
+      if (LOCAL_NAME.matcher(localName)
+          .matches()) {
+        usedPrefixes.put(namespace.getValue(), namespace.getKey());
+        return namespace.getValue() + ":" + localName;
+      }
+    }
+
+    return "<" + value + ">";
+  }
+
+  static String declarations(Map<String, String> usedPrefixes) {
+    return usedPrefixes.entrySet()
+        .stream()
+        .map(entry -> String.format("PREFIX %s: <%s>%n", entry.getKey(), entry.getValue()))
+        .collect(Collectors.joining());
+  }
+}
@@ -3,51 +3,84 @@ package org.dotwebstack.framework.backend.rdf4j.query;
 import static org.dotwebstack.framework.core.traversers.TraverserFilter.directiveWithValueFilter;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
 import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeUtil;
 import graphql.schema.GraphQLUnmodifiedType;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.text.StringSubstitutor;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.QueryProperties;
+import org.dotwebstack.framework.backend.rdf4j.ReactiveRepositoryAdapter;
 import org.dotwebstack.framework.backend.rdf4j.RepositoryAdapter;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryExecutors;
 import org.dotwebstack.framework.backend.rdf4j.directives.Rdf4jDirectives;
 import org.dotwebstack.framework.backend.rdf4j.query.context.ConstructVerticeFactory;
+import org.dotwebstack.framework.backend.rdf4j.query.context.OrderKey;
 import org.dotwebstack.framework.backend.rdf4j.query.context.SelectVerticeFactory;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.dotwebstack.framework.core.ExecutionRejectedException;
 import org.dotwebstack.framework.core.directives.CoreDirectives;
 import org.dotwebstack.framework.core.directives.DirectiveUtils;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.core.traversers.CoreTraverser;
 import org.dotwebstack.framework.core.traversers.DirectiveContainerTuple;
 import org.dotwebstack.framework.core.validators.QueryValidator;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.impl.TreeModel;
+import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.query.GraphQueryResult;
 import org.eclipse.rdf4j.query.QueryResults;
 import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.algebra.evaluation.util.ValueComparator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 public final class QueryFetcher implements DataFetcher<Object> {
 
   private static final ValueFactory VF = SimpleValueFactory.getInstance();
 
+  private static final Comparator<Value> VALUE_COMPARATOR = new ValueComparator();
+
+  private static final String CHUNK_EXECUTOR_SUFFIX = ":chunks";
+
+  private static final String BRANCH_EXECUTOR_SUFFIX = ":branches";
+
+  private static final IntConsumer IGNORE_ROWS = rowCount -> {
+  };
+
   private final RepositoryAdapter repositoryAdapter;
 
   private final NodeShapeRegistry nodeShapeRegistry;
 
   private final Map<String, String> prefixMap;
 
-  private final JexlEngine jexlEngine;
+  private final JexlRegistry jexlRegistry;
 
   private final CoreTraverser coreTraverser;
 
@@ -57,18 +90,50 @@ public final class QueryFetcher implements DataFetcher<Object> {
 
   private final ConstructVerticeFactory constructVerticeFactory;
 
+  private final QueryPlanCache queryPlanCache;
+
+  private final QueryResultCache queryResultCache;
+
+  private final RepositoryExecutors repositoryExecutors;
+
+  private final GraphQueryBatcher graphQueryBatcher;
+
+  private final GraphBranchMetrics graphBranchMetrics;
+
+  private final boolean fused;
+
+  private final int chunkSize;
+
+  private final boolean splitBranches;
+
+  private final boolean rowFetch;
+
+  private final IriCompactor iriCompactor;
+
   public QueryFetcher(RepositoryAdapter repositoryAdapter, NodeShapeRegistry nodeShapeRegistry,
-      Map<String, String> prefixMap, JexlEngine jexlEngine, List<QueryValidator> validators,
+      Map<String, String> prefixMap, JexlRegistry jexlRegistry, List<QueryValidator> validators,
       CoreTraverser coreTraverser, SelectVerticeFactory selectVerticeFactory,
-      ConstructVerticeFactory constructVerticeFactory) {
+      ConstructVerticeFactory constructVerticeFactory, QueryPlanCache queryPlanCache, QueryResultCache queryResultCache,
+      RepositoryExecutors repositoryExecutors, GraphQueryBatcher graphQueryBatcher,
+      GraphBranchMetrics graphBranchMetrics, QueryProperties queryProperties, boolean fused) {
     this.repositoryAdapter = repositoryAdapter;
     this.nodeShapeRegistry = nodeShapeRegistry;
     this.prefixMap = prefixMap;
-    this.jexlEngine = jexlEngine;
+    this.jexlRegistry = jexlRegistry;
     this.coreTraverser = coreTraverser;
     this.validators = validators;
     this.selectVerticeFactory = selectVerticeFactory;
     this.constructVerticeFactory = constructVerticeFactory;
+    this.queryPlanCache = queryPlanCache;
+    this.queryResultCache = queryResultCache;
+    this.repositoryExecutors = repositoryExecutors;
+    this.graphQueryBatcher = graphQueryBatcher;
+    this.graphBranchMetrics = graphBranchMetrics;
+    this.fused = fused;
+    this.chunkSize = queryProperties.getChunkSize();
+    this.splitBranches = queryProperties.isSplitBranches();
+    this.rowFetch = queryProperties.isRowFetch();
+    this.iriCompactor = new IriCompactor(prefixMap);
   }
 
   @Override
@@ -90,57 +155,271 @@ public final class QueryFetcher implements DataFetcher<Object> {
         .fieldDefinition(environment.getFieldDefinition())
         .build();
 
+    String repositoryId =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, environment.getFieldDefinition()
+            .getDirective(Rdf4jDirectives.SPARQL_NAME), String.class);
+
+    if (repositoryAdapter instanceof ReactiveRepositoryAdapter) {
+      return fetchReactive((ReactiveRepositoryAdapter) repositoryAdapter, environment, queryEnvironment, outputType,
+          repositoryId).doFinally(signal -> repositoryAdapter.release(environment))
+              .toFuture();
+    }
+
+    return repositoryExecutors.submit(repositoryId, () -> {
+      try {
+        return fetch(environment, queryEnvironment, outputType);
+      } finally {
+        repositoryAdapter.release(environment);
+      }
+    });
+  }
+
+  private Object fetch(DataFetchingEnvironment environment, QueryEnvironment queryEnvironment, GraphQLType outputType) {
     List<DirectiveContainerTuple> filterMapping =
         coreTraverser.getTuples(environment, directiveWithValueFilter(CoreDirectives.FILTER_NAME));
 
+    if (isFused(environment)) {
+      return fetchFused(environment, queryEnvironment, filterMapping, outputType);
+    }
+
     List<IRI> subjects =
         fetchSubjects(environment, queryEnvironment, filterMapping, environment.getArguments(), repositoryAdapter);
 
     LOG.debug("Fetched subjects: {}", subjects);
 
+    if (rowFetch && repositoryAdapter.addGraphQueryValuesBlock()) {
+      Map<String, RowQueryPlan> rowQueryPlans =
+          queryPlanCache.get(RowQueryBuilder.planKey(queryEnvironment, splitBranches),
+              () -> RowQueryBuilder.compileBranches(queryEnvironment, constructVerticeFactory, splitBranches));
+
+      // selections with path predicates cannot be mapped from rows
+      if (!rowQueryPlans.isEmpty()) {
+        return toResult(outputType, subjects, fetchRows(environment, rowQueryPlans, subjects));
+      }
+    }
+
     // Fetch graph for given subjects
     Model model = fetchGraph(environment, queryEnvironment, subjects, repositoryAdapter);
 
+    return toResult(outputType, subjects, model);
+  }
+
+  private boolean isFused(DataFetchingEnvironment environment) {
+    if (!fused || !repositoryAdapter.addGraphQueryValuesBlock()) {
+      return false;
+    }
+
+    GraphQLDirective sparqlDirective = environment.getFieldDefinition()
+        .getDirective(Rdf4jDirectives.SPARQL_NAME);
+
+    // A subject template already results in a single query
+    return DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_SUBJECT, sparqlDirective, String.class) == null;
+  }
+
+  private Object fetchFused(DataFetchingEnvironment environment, QueryEnvironment queryEnvironment,
+      List<DirectiveContainerTuple> filterMapping, GraphQLType outputType) {
+    GraphQLDirective sparqlDirective = environment.getFieldDefinition()
+        .getDirective(Rdf4jDirectives.SPARQL_NAME);
+
+    Map<String, Object> arguments = environment.getArguments();
+    SubjectQueryBuilder subjectQueryBuilder =
+        SubjectQueryBuilder.create(queryEnvironment, jexlRegistry, selectVerticeFactory);
+    List<Object> orderBy = subjectQueryBuilder.getOrderBy(arguments, sparqlDirective);
+
+    SubjectQueryPlan subjectQueryPlan =
+        queryPlanCache.get(SubjectQueryBuilder.planKey(queryEnvironment, filterMapping, orderBy, true),
+            () -> subjectQueryBuilder.compile(sparqlDirective, filterMapping, orderBy, true));
+    List<OrderKey> orderKeys = subjectQueryPlan.getOrderKeys();
+
+    GraphQueryPlan graphQueryPlan = queryPlanCache.get(GraphQueryBuilder.planKey(queryEnvironment, orderKeys.size()),
+        () -> GraphQueryBuilder.create(queryEnvironment, constructVerticeFactory)
+            .compile(orderKeys));
+
+    String graphQuery =
+        graphQueryPlan.bind(subjectQueryBuilder.bind(subjectQueryPlan, arguments, sparqlDirective, filterMapping));
+
+    LOG.debug("Executing fused query for graph:\n{}", graphQuery);
+
+    String repositoryId =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, sparqlDirective, String.class);
+
+    FusedResult fusedResult = cached(environment, repositoryId, graphQuery, scope -> {
+      GraphQueryResult queryResult =
+          repositoryAdapter.prepareGraphQuery(repositoryId, scope, graphQuery, ImmutableList.of())
+              .evaluate();
+
+      Model model = QueryResults.asModel(queryResult);
+      List<IRI> subjects = extractSubjects(model, orderKeys);
+      return new FusedResult(ImmutableList.copyOf(subjects), model.unmodifiable());
+    }, result -> result.model.size());
+
+    LOG.debug("Fetched subjects: {}", fusedResult.subjects);
+    LOG.debug("Fetched [{}] triples", fusedResult.model.size());
+
+    return toResult(outputType, fusedResult.subjects, fusedResult.model);
+  }
+
+  /*
+   * Passes the query through the result cache. Background refreshes run in their own connection
+   * scope, since the scope of the current environment is released when this fetch completes.
+   */
+  private <T> T cached(DataFetchingEnvironment environment, String repositoryId, String query,
+      Function<DataFetchingEnvironment, T> loader, ToIntFunction<T> weigher) {
+    Object cacheScope = repositoryAdapter.getCacheScope(repositoryId, environment);
+
+    return queryResultCache.get(repositoryId, cacheScope, query, () -> loader.apply(environment), () -> {
+      DataFetchingEnvironment scope = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment)
+          .build();
+
+      try {
+        return loader.apply(scope);
+      } finally {
+        repositoryAdapter.release(scope);
+      }
+    }, weigher);
+  }
+
+  /*
+   * Reads the selected subjects from the markers in the fused query result, restores the order of the
+   * sub-select from the projected order keys and removes the markers from the model.
+   */
+  private static List<IRI> extractSubjects(Model model, List<OrderKey> orderKeys) {
+    Comparator<IRI> comparator = (left, right) -> 0;
+
+    for (int i = 0; i < orderKeys.size(); i++) {
+      IRI predicate = GraphQueryBuilder.orderKeyPredicate(i);
+      Comparator<Value> valueComparator = orderKeys.get(i)
+          .isAscending() ? VALUE_COMPARATOR : VALUE_COMPARATOR.reversed();
+      comparator = comparator.thenComparing(subject -> Models.object(model.filter(subject, predicate, null))
+          .orElse(null), valueComparator);
+    }
+
+    List<IRI> subjects = Models.subjectIRIs(model.filter(null, GraphQueryBuilder.SELECTED_SUBJECT, null))
+        .stream()
+        .sorted(comparator)
+        .collect(Collectors.toList());
+
+    model.remove(null, GraphQueryBuilder.SELECTED_SUBJECT, null);
+    for (int i = 0; i < orderKeys.size(); i++) {
+      model.remove(null, GraphQueryBuilder.orderKeyPredicate(i), null);
+    }
+
+    return subjects;
+  }
+
+  private static Object toResult(GraphQLType outputType, List<IRI> subjects, Model model) {
+    return toResult(outputType, subjects, new ModelIndex(model));
+  }
+
+  private static Object toResult(GraphQLType outputType, List<IRI> subjects, ModelIndex modelIndex) {
     if (GraphQLTypeUtil.isList(outputType)) {
       return subjects.stream()
-          .map(subject -> new QuerySolution(model, subject))
+          .map(subject -> new QuerySolution(modelIndex, subject))
           .collect(Collectors.toList());
     }
 
-    return model.isEmpty() ? null : new QuerySolution(model, subjects.get(0));
+    return modelIndex.isEmpty() ? null : new QuerySolution(modelIndex, subjects.get(0));
   }
 
   private List<IRI> fetchSubjects(DataFetchingEnvironment environment, QueryEnvironment queryEnvironment,
       List<DirectiveContainerTuple> filterMapping, Map<String, Object> arguments, RepositoryAdapter repositoryAdapter) {
+    IRI templateSubject = bindSubjectTemplate(environment, arguments);
 
-    GraphQLDirective sparqlDirective = environment.getFieldDefinition()
-        .getDirective(Rdf4jDirectives.SPARQL_NAME);
+    if (templateSubject != null) {
+      return ImmutableList.of(templateSubject);
+    }
 
-    String subjectTemplate =
-        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_SUBJECT, sparqlDirective, String.class);
+    String subjectQuery = bindSubjectQuery(environment, queryEnvironment, filterMapping, arguments);
 
-    if (subjectTemplate != null) {
-      StringSubstitutor substitutor = new StringSubstitutor(arguments);
-      IRI subject = VF.createIRI(substitutor.replace(subjectTemplate));
+    LOG.debug("Executing query for subjects:\n{}", subjectQuery);
 
-      return ImmutableList.of(subject);
+    String repositoryId =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, environment.getFieldDefinition()
+            .getDirective(Rdf4jDirectives.SPARQL_NAME), String.class);
+
+    return cached(environment, repositoryId, subjectQuery, scope -> {
+      TupleQueryResult queryResult = repositoryAdapter.prepareTupleQuery(repositoryId, scope, subjectQuery)
+          .evaluate();
+
+      return QueryResults.asList(queryResult)
+          .stream()
+          .map(bindings -> (IRI) bindings.getValue("s"))
+          .collect(ImmutableList.toImmutableList());
+    }, List::size);
+  }
+
+  private static IRI bindSubjectTemplate(DataFetchingEnvironment environment, Map<String, Object> arguments) {
+    String subjectTemplate =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_SUBJECT, environment.getFieldDefinition()
+            .getDirective(Rdf4jDirectives.SPARQL_NAME), String.class);
+
+    if (subjectTemplate == null) {
+      return null;
     }
 
-    String subjectQuery = SubjectQueryBuilder.create(queryEnvironment, jexlEngine, selectVerticeFactory)
-        .getQueryString(arguments, sparqlDirective, filterMapping);
+    StringSubstitutor substitutor = new StringSubstitutor(arguments);
+    return VF.createIRI(substitutor.replace(subjectTemplate));
+  }
 
-    LOG.debug("Executing query for subjects:\n{}", subjectQuery);
+  private String bindSubjectQuery(DataFetchingEnvironment environment, QueryEnvironment queryEnvironment,
+      List<DirectiveContainerTuple> filterMapping, Map<String, Object> arguments) {
+    GraphQLDirective sparqlDirective = environment.getFieldDefinition()
+        .getDirective(Rdf4jDirectives.SPARQL_NAME);
 
-    String repositoryId =
-        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, sparqlDirective, String.class);
+    SubjectQueryBuilder subjectQueryBuilder =
+        SubjectQueryBuilder.create(queryEnvironment, jexlRegistry, selectVerticeFactory);
+    List<Object> orderBy = subjectQueryBuilder.getOrderBy(arguments, sparqlDirective);
 
-    TupleQueryResult queryResult = repositoryAdapter.prepareTupleQuery(repositoryId, environment, subjectQuery)
-        .evaluate();
+    SubjectQueryPlan subjectQueryPlan =
+        queryPlanCache.get(SubjectQueryBuilder.planKey(queryEnvironment, filterMapping, orderBy, false),
+            () -> subjectQueryBuilder.compile(sparqlDirective, filterMapping, orderBy, false));
 
-    return QueryResults.asList(queryResult)
-        .stream()
-        .map(bindings -> (IRI) bindings.getValue("s"))
-        .collect(Collectors.toList());
+    return subjectQueryBuilder.bind(subjectQueryPlan, arguments, sparqlDirective, filterMapping);
+  }
+
+  /*
+   * Fetches subjects and graph from a reactive repository. No thread waits for the repository, the
+   * returned future completes on the thread that receives the last response. The chunks of the graph
+   * are requested concurrently. The fused, cached, batched, row fetch and branch split paths are not
+   * used for reactive repositories.
+   */
+  private Mono<Object> fetchReactive(ReactiveRepositoryAdapter reactiveAdapter, DataFetchingEnvironment environment,
+      QueryEnvironment queryEnvironment, GraphQLType outputType, String repositoryId) {
+    Map<String, Object> arguments = environment.getArguments();
+    IRI templateSubject = bindSubjectTemplate(environment, arguments);
+
+    Mono<List<IRI>> subjects;
+
+    if (templateSubject != null) {
+      subjects = Mono.just(ImmutableList.of(templateSubject));
+    } else {
+      List<DirectiveContainerTuple> filterMapping =
+          coreTraverser.getTuples(environment, directiveWithValueFilter(CoreDirectives.FILTER_NAME));
+      String subjectQuery = bindSubjectQuery(environment, queryEnvironment, filterMapping, arguments);
+
+      LOG.debug("Executing query for subjects:\n{}", subjectQuery);
+
+      subjects = reactiveAdapter.evaluateTupleQuery(repositoryId, subjectQuery)
+          .map(bindings -> (IRI) bindings.getValue("s"))
+          .collectList();
+    }
+
+    return subjects.flatMap(subjectList -> {
+      if (subjectList.isEmpty()) {
+        return Mono.just(toResult(outputType, subjectList, new TreeModel()));
+      }
+
+      GraphQueryPlan graphQueryPlan = queryPlanCache.get(GraphQueryBuilder.planKey(queryEnvironment, -1),
+          () -> GraphQueryBuilder.create(queryEnvironment, constructVerticeFactory)
+              .compile());
+      List<List<IRI>> chunks = chunkSize > 0 ? Lists.partition(subjectList, chunkSize) : List.of(subjectList);
+
+      return Flux.fromIterable(chunks)
+          .flatMap(
+              chunk -> reactiveAdapter.evaluateGraphQuery(repositoryId, graphQueryPlan.bind(chunk, true, iriCompactor)))
+          .collect(LinkedHashModel::new, Model::add)
+          .map(model -> toResult(outputType, subjectList, model.unmodifiable()));
+    });
   }
 
   private Model fetchGraph(DataFetchingEnvironment environment, QueryEnvironment queryEnvironment, List<IRI> subjects,
@@ -150,26 +429,244 @@ public final class QueryFetcher implements DataFetcher<Object> {
       return new TreeModel();
     }
 
-    String graphQuery = GraphQueryBuilder.create(queryEnvironment, subjects, constructVerticeFactory)
-        .getQueryString(repositoryAdapter.addGraphQueryValuesBlock());
-
-    LOG.debug("Executing query for graph:\n{}", graphQuery);
-
-
     GraphQLDirective sparqlDirective = environment.getFieldDefinition()
         .getDirective(Rdf4jDirectives.SPARQL_NAME);
 
     String repositoryId =
         DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, sparqlDirective, String.class);
 
-    GraphQueryResult queryResult = repositoryAdapter
-        .prepareGraphQuery(repositoryId, environment, graphQuery, subjects.stream()
-            .map(IRI::toString)
-            .collect(Collectors.toList()))
-        .evaluate();
+    if (!splitBranches) {
+      GraphQueryPlan graphQueryPlan = queryPlanCache.get(GraphQueryBuilder.planKey(queryEnvironment, -1),
+          () -> GraphQueryBuilder.create(queryEnvironment, constructVerticeFactory)
+              .compile());
+
+      return fetchGraph(environment, repositoryId, graphQueryPlan, subjects, IGNORE_ROWS);
+    }
+
+    Map<String, GraphQueryPlan> graphQueryPlans = queryPlanCache.get(GraphQueryBuilder.branchesKey(queryEnvironment),
+        () -> GraphQueryBuilder.compileBranches(queryEnvironment, constructVerticeFactory));
+    List<Map.Entry<String, GraphQueryPlan>> branches = new ArrayList<>(graphQueryPlans.entrySet());
+    // the branch names do not hold aliases, see ConstructVerticeFactory.splitBranches
+    String fieldName = environment.getFieldDefinition()
+        .getName();
+
+    // every branch holds at most one multi-valued property, so no branch joins the values of another
+    List<Model> models =
+        evaluateConcurrently(repositoryId + BRANCH_EXECUTOR_SUFFIX, environment, branches, (scope, branch) -> {
+          long start = System.nanoTime();
+          AtomicInteger rowCount = new AtomicInteger();
+          Model model = fetchGraph(scope, repositoryId, branch.getValue(), subjects, rowCount::addAndGet);
+          graphBranchMetrics.record(fieldName + "/" + branch.getKey(), rowCount.get(), System.nanoTime() - start);
+          return model;
+        });
+
+    return merge(models);
+  }
+
+  private Model fetchGraph(DataFetchingEnvironment environment, String repositoryId, GraphQueryPlan graphQueryPlan,
+      List<IRI> subjects, IntConsumer rowCounter) {
+    String graphQuery = graphQueryPlan.bind(subjects, repositoryAdapter.addGraphQueryValuesBlock(), iriCompactor);
+
+    LOG.debug("Executing query for graph:\n{}", graphQuery);
+
+    // Adapters without a VALUES block receive the subjects separately, so they are part of the key
+    String cacheKey = repositoryAdapter.addGraphQueryValuesBlock() ? graphQuery : graphQuery + subjects;
+
+    Model result = cached(environment, repositoryId, cacheKey, scope -> {
+      if (!repositoryAdapter.addGraphQueryValuesBlock()) {
+        return evaluateGraphChunks(repositoryId, scope, graphQueryPlan, subjects, rowCounter);
+      }
+
+      // concurrent fetches with the same plan share one query with a combined VALUES block
+      return join(graphQueryBatcher.fetch(repositoryAdapter, repositoryId, scope, graphQueryPlan, subjects,
+          (batchScope, batchSubjects, batchRowCounter) -> evaluateGraphChunks(repositoryId, batchScope, graphQueryPlan,
+              batchSubjects, batchRowCounter),
+          rowCounter));
+    }, Model::size);
 
-    Model result = QueryResults.asModel(queryResult);
     LOG.debug("Fetched [{}] triples", result.size());
     return result;
   }
+
+  /*
+   * Fetches the values of the selected fields with SELECT queries, which stream rows straight into
+   * the index the value fetchers read from, instead of parsing a constructed graph into a model
+   * first.
+   */
+  private ModelIndex fetchRows(DataFetchingEnvironment environment, Map<String, RowQueryPlan> rowQueryPlans,
+      List<IRI> subjects) {
+    if (subjects.isEmpty()) {
+      return new ModelIndex(new TreeModel());
+    }
+
+    String repositoryId =
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_REPOSITORY, environment.getFieldDefinition()
+            .getDirective(Rdf4jDirectives.SPARQL_NAME), String.class);
+
+    List<Map.Entry<String, RowQueryPlan>> branches = new ArrayList<>(rowQueryPlans.entrySet());
+    // the branch names do not hold aliases, see ConstructVerticeFactory.splitBranches
+    String fieldName = environment.getFieldDefinition()
+        .getName();
+
+    List<ModelIndex> indexes =
+        evaluateConcurrently(repositoryId + BRANCH_EXECUTOR_SUFFIX, environment, branches, (scope, branch) -> {
+          long start = System.nanoTime();
+          String rowQuery = branch.getValue()
+              .bind(subjects, iriCompactor);
+
+          LOG.debug("Executing query for rows:\n{}", rowQuery);
+
+          AtomicInteger rowCount = new AtomicInteger();
+          ModelIndex modelIndex = cached(scope, repositoryId, rowQuery, cacheScope -> evaluateRowChunks(repositoryId,
+              cacheScope, branch.getValue(), subjects, rowCount::addAndGet), ModelIndex::size);
+
+          if (branches.size() > 1) {
+            graphBranchMetrics.record(fieldName + "/" + branch.getKey(), rowCount.get(), System.nanoTime() - start);
+          }
+
+          return modelIndex;
+        });
+
+    return mergeIndexes(indexes);
+  }
+
+  private ModelIndex evaluateRowChunks(String repositoryId, DataFetchingEnvironment environment,
+      RowQueryPlan rowQueryPlan, List<IRI> subjects, IntConsumer rowCounter) {
+    List<List<IRI>> chunks = chunkSize > 0 ? Lists.partition(subjects, chunkSize) : List.of(subjects);
+
+    return mergeIndexes(evaluateConcurrently(repositoryId + CHUNK_EXECUTOR_SUFFIX, environment, chunks,
+        (scope, chunk) -> rowQueryPlan
+            .collect(repositoryAdapter.prepareTupleQuery(repositoryId, scope, rowQueryPlan.bind(chunk, iriCompactor))
+                .evaluate(), rowCounter)));
+  }
+
+  private static ModelIndex mergeIndexes(List<ModelIndex> indexes) {
+    if (indexes.size() == 1) {
+      return indexes.get(0);
+    }
+
+    ModelIndex.Builder builder = ModelIndex.builder();
+    indexes.forEach(builder::addAll);
+    return builder.build();
+  }
+
+  /*
+   * Splits large subject lists into chunks, so no single query grows beyond what endpoints accept.
+   */
+  private Model evaluateGraphChunks(String repositoryId, DataFetchingEnvironment environment,
+      GraphQueryPlan graphQueryPlan, List<IRI> subjects, IntConsumer rowCounter) {
+    if (chunkSize <= 0 || subjects.size() <= chunkSize) {
+      return evaluateGraph(repositoryId, environment, graphQueryPlan, subjects, rowCounter);
+    }
+
+    List<List<IRI>> chunks = Lists.partition(subjects, chunkSize);
+    List<Model> models = evaluateConcurrently(repositoryId + CHUNK_EXECUTOR_SUFFIX, environment, chunks,
+        (scope, chunk) -> evaluateGraph(repositoryId, scope, graphQueryPlan, chunk, rowCounter));
+
+    LOG.debug("Fetched graph for {} subjects in {} chunks", subjects.size(), chunks.size());
+    return merge(models);
+  }
+
+  /*
+   * Evaluates the first task on the current thread and the others concurrently on the given executor,
+   * each in its own connection scope. A task that is rejected by the executor is evaluated on the
+   * current thread as well. Branches and chunks use separate executors, since a branch waits for its
+   * chunks. The connection of the current scope is released first, so a fan-out of n tasks holds at
+   * most n connections.
+   */
+  private <T, R> List<R> evaluateConcurrently(String executorId, DataFetchingEnvironment environment, List<T> tasks,
+      BiFunction<DataFetchingEnvironment, T, R> evaluator) {
+    if (tasks.size() > 1) {
+      repositoryAdapter.release(environment);
+    }
+
+    List<CompletableFuture<R>> futures = new ArrayList<>();
+
+    for (T task : tasks.subList(1, tasks.size())) {
+      try {
+        futures.add(repositoryExecutors.submit(executorId, () -> {
+          DataFetchingEnvironment scope = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment)
+              .build();
+
+          try {
+            return evaluator.apply(scope, task);
+          } finally {
+            repositoryAdapter.release(scope);
+          }
+        }));
+      } catch (ExecutionRejectedException e) {
+        futures.add(CompletableFuture.completedFuture(evaluator.apply(environment, task)));
+      }
+    }
+
+    List<R> results = new ArrayList<>();
+    results.add(evaluator.apply(environment, tasks.get(0)));
+
+    for (CompletableFuture<R> future : futures) {
+      results.add(join(future));
+    }
+
+    return results;
+  }
+
+  private static Model merge(List<Model> models) {
+    if (models.size() == 1) {
+      return models.get(0);
+    }
+
+    Model result = new LinkedHashModel();
+    models.forEach(result::addAll);
+    return result.unmodifiable();
+  }
+
+  /*
+   * Reports the statements of the result as rows, before duplicates are merged into the model.
+   */
+  private Model evaluateGraph(String repositoryId, DataFetchingEnvironment environment, GraphQueryPlan graphQueryPlan,
+      List<IRI> subjects, IntConsumer rowCounter) {
+    String graphQuery = graphQueryPlan.bind(subjects, repositoryAdapter.addGraphQueryValuesBlock(), iriCompactor);
+    List<String> subjectIris = subjects.stream()
+        .map(IRI::toString)
+        .collect(Collectors.toList());
+
+    GraphQueryResult queryResult =
+        repositoryAdapter.prepareGraphQuery(repositoryId, environment, graphQuery, subjectIris)
+            .evaluate();
+
+    Model model = new LinkedHashModel();
+    int rowCount = 0;
+
+    try (queryResult) {
+      while (queryResult.hasNext()) {
+        model.add(queryResult.next());
+        rowCount++;
+      }
+    }
+
+    rowCounter.accept(rowCount);
+    return model.unmodifiable();
+  }
+
+  private static <R> R join(CompletableFuture<R> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new DotWebStackRuntimeException("Fetching a graph part failed.", e.getCause());
+    }
+  }
+
+  private static final class FusedResult {
+
+    private final List<IRI> subjects;
+
+    private final Model model;
+
+    private FusedResult(List<IRI> subjects, Model model) {
+      this.subjects = subjects;
+      this.model = model;
+    }
+  }
 }
@@ -0,0 +1,56 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class QueryPlanCache {
+
+  private final Cache<List<Object>, Object> plans;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  public QueryPlanCache(@NonNull Rdf4jProperties rdf4jProperties) {
+    this.plans = CacheBuilder.newBuilder()
+        .maximumSize(rdf4jProperties.getQuery()
+            .getPlanCacheSize())
+        .build();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T get(@NonNull List<Object> key, @NonNull Supplier<T> compiler) {
+    Object plan = plans.getIfPresent(key);
+
+    if (plan != null) {
+      hitCount.incrementAndGet();
+      return (T) plan;
+    }
+
+    // Compiled outside the cache loader, so compile errors reach the caller unwrapped
+    missCount.incrementAndGet();
+    T compiledPlan = compiler.get();
+    plans.put(key, compiledPlan);
+
+    LOG.debug("Compiled query plan ({} hits, {} misses)", hitCount.get(), missCount.get());
+
+    return compiledPlan;
+  }
+}
@@ -0,0 +1,221 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ResultCacheProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class QueryResultCache implements DisposableBean {
+
+  private final ResultCacheProperties properties;
+
+  private final Cache<List<Object>, CachedResult> results;
+
+  private final Map<List<Object>, CompletableFuture<CachedResult>> pendingLoads = new ConcurrentHashMap<>();
+
+  private final ExecutorService refreshExecutor;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong staleHitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  public QueryResultCache(@NonNull Rdf4jProperties rdf4jProperties) {
+    this.properties = rdf4jProperties.getResultCache();
+    this.results = CacheBuilder.newBuilder()
+        .maximumWeight(properties.getMaxWeight())
+        .weigher((List<Object> key, CachedResult result) -> result.weight)
+        .build();
+    this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "sparql-result-cache-refresh");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getStaleHitCount() {
+    return staleHitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public void invalidateAll() {
+    results.invalidateAll();
+  }
+
+  /*
+   * Returns the cached result for the query, or loads it when absent or expired. Within the
+   * stale-while-revalidate window after expiry, the stale result is returned right away and the
+   * refresher reloads it in the background. Concurrent misses for the same key wait for a single
+   * load. Loaded values must be immutable, since they are shared between requests.
+   */
+  @SuppressWarnings("unchecked")
+  <T> T get(@NonNull String repositoryId, Object scope, @NonNull String query, @NonNull Supplier<T> loader,
+      @NonNull Supplier<T> refresher, @NonNull ToIntFunction<T> weigher) {
+    long ttl = properties.getTtl(repositoryId);
+
+    if (!isEnabled() || ttl <= 0) {
+      return loader.get();
+    }
+
+    List<Object> key = Arrays.asList(repositoryId, scope, normalize(query));
+    CachedResult cachedResult = results.getIfPresent(key);
+
+    if (cachedResult != null) {
+      long age = System.currentTimeMillis() - cachedResult.loadedAt;
+
+      if (age <= ttl) {
+        hitCount.incrementAndGet();
+        return (T) cachedResult.value;
+      }
+
+      if (age <= ttl + properties.getStaleWhileRevalidate()) {
+        staleHitCount.incrementAndGet();
+        refreshAsync(key, cachedResult, refresher, weigher);
+        return (T) cachedResult.value;
+      }
+    }
+
+    return (T) load(key, loader, weigher).value;
+  }
+
+  @Override
+  public void destroy() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private <T> CachedResult load(List<Object> key, Supplier<T> loader, ToIntFunction<T> weigher) {
+    CompletableFuture<CachedResult> loading = new CompletableFuture<>();
+    CompletableFuture<CachedResult> pendingLoad = pendingLoads.putIfAbsent(key, loading);
+
+    if (pendingLoad != null) {
+      hitCount.incrementAndGet();
+      return awaitLoad(pendingLoad);
+    }
+
+    missCount.incrementAndGet();
+
+    try {
+      long loadedAt = System.currentTimeMillis();
+      T value = loader.get();
+      CachedResult cachedResult = new CachedResult(value, weigher.applyAsInt(value), loadedAt);
+      results.put(key, cachedResult);
+      loading.complete(cachedResult);
+      return cachedResult;
+    } catch (RuntimeException e) {
+      loading.completeExceptionally(e);
+      throw e;
+    } finally {
+      pendingLoads.remove(key, loading);
+    }
+  }
+
+  private static CachedResult awaitLoad(CompletableFuture<CachedResult> pendingLoad) {
+    try {
+      return pendingLoad.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  private <T> void refreshAsync(List<Object> key, CachedResult cachedResult, Supplier<T> refresher,
+      ToIntFunction<T> weigher) {
+    if (!cachedResult.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    refreshExecutor.execute(() -> {
+      try {
+        long loadedAt = System.currentTimeMillis();
+        T value = refresher.get();
+        results.put(key, new CachedResult(value, weigher.applyAsInt(value), loadedAt));
+      } catch (RuntimeException e) {
+        LOG.warn("Refreshing cached query result failed", e);
+        cachedResult.refreshing.set(false);
+      }
+    });
+  }
+
+  /*
+   * Collapses whitespace outside of quoted strings, so formatting differences do not lead to separate
+   * cache entries.
+   */
+  static String normalize(String query) {
+    StringBuilder normalized = new StringBuilder();
+    char quote = 0;
+    boolean whitespace = false;
+
+    for (char character : query.trim()
+        .toCharArray()) {
+      if (quote == 0 && Character.isWhitespace(character)) {
+        whitespace = true;
+        continue;
+      }
+
+      if (whitespace) {
+        normalized.append(' ');
+        whitespace = false;
+      }
+
+      if (quote == 0 && (character == '"' || character == '\'')) {
+        quote = character;
+      } else if (character == quote && normalized.charAt(normalized.length() - 1) != '\\') {
+        quote = 0;
+      }
+
+      normalized.append(character);
+    }
+
+    return normalized.toString();
+  }
+
+  private static final class CachedResult {
+
+    private final Object value;
+
+    private final int weight;
+
+    private final long loadedAt;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private CachedResult(Object value, int weight, long loadedAt) {
+      this.value = value;
+      this.weight = Math.max(weight, 1);
+      this.loadedAt = loadedAt;
+    }
+  }
+}
@@ -1,18 +1,27 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
 import lombok.Getter;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 
 @Getter
 public final class QuerySolution {
 
-  private final Model model;
+  private final ModelIndex modelIndex;
 
   private final Resource subject;
 
   public QuerySolution(Model model, Resource subject) {
-    this.model = model;
+    this(new ModelIndex(model), subject);
+  }
+
+  public QuerySolution(ModelIndex modelIndex, Resource subject) {
+    this.modelIndex = modelIndex;
     this.subject = subject;
   }
+
+  public Model getModel() {
+    return modelIndex.getModel();
+  }
 }
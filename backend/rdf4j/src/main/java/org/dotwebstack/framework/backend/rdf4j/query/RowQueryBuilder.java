@@ -0,0 +1,107 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import graphql.schema.SelectedField;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+import org.dotwebstack.framework.backend.rdf4j.query.context.ConstructVerticeFactory;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.dotwebstack.framework.backend.rdf4j.query.context.Vertice;
+import org.dotwebstack.framework.backend.rdf4j.query.context.VerticeHelper;
+import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+import org.eclipse.rdf4j.sparqlbuilder.core.query.Queries;
+import org.eclipse.rdf4j.sparqlbuilder.core.query.SelectQuery;
+import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
+
+/*
+ * Builds the SELECT counterpart of the graph query: the same graph patterns, projecting only the
+ * variables of the construct patterns.
+ */
+class RowQueryBuilder extends AbstractQueryBuilder<SelectQuery> {
+
+  private final ConstructVerticeFactory constructVerticeFactory;
+
+  private RowQueryBuilder(@NonNull QueryEnvironment environment,
+      @NonNull ConstructVerticeFactory constructVerticeFactory) {
+    super(environment, Queries.SELECT());
+    this.constructVerticeFactory = constructVerticeFactory;
+  }
+
+  static RowQueryBuilder create(QueryEnvironment environment,
+      @NonNull ConstructVerticeFactory constructVerticeFactory) {
+    return new RowQueryBuilder(environment, constructVerticeFactory);
+  }
+
+  static List<Object> planKey(QueryEnvironment environment, boolean splitBranches) {
+    return List.of(RowQueryBuilder.class, GraphQueryBuilder.planKey(environment, -1), splitBranches);
+  }
+
+  /*
+   * Compiles a row query per branch. Returns an empty map when the selection cannot be fetched as
+   * rows, in which case the graph query is used instead.
+   */
+  static Map<String, RowQueryPlan> compileBranches(QueryEnvironment environment,
+      @NonNull ConstructVerticeFactory constructVerticeFactory, boolean splitBranches) {
+    List<SelectedField> fields = environment.getSelectionSet()
+        .getFields();
+
+    Map<String, List<SelectedField>> branches = Map.of(ConstructVerticeFactory.DEFAULT_BRANCH, fields);
+
+    if (splitBranches) {
+      NodeShape nodeShape = environment.getNodeShapeRegistry()
+          .get(environment.getObjectType());
+      branches = constructVerticeFactory.splitBranches(nodeShape, fields);
+    }
+
+    Map<String, RowQueryPlan> plans = new LinkedHashMap<>();
+
+    for (Map.Entry<String, List<SelectedField>> branch : branches.entrySet()) {
+      Optional<RowQueryPlan> plan = create(environment, constructVerticeFactory).compile(branch.getValue());
+
+      if (plan.isEmpty()) {
+        return Map.of();
+      }
+
+      plans.put(branch.getKey(), plan.get());
+    }
+
+    return plans;
+  }
+
+  private Optional<RowQueryPlan> compile(List<SelectedField> fields) {
+    NodeShape nodeShape = environment.getNodeShapeRegistry()
+        .get(environment.getObjectType());
+
+    Variable subjectVariable = query.var();
+    Vertice root = constructVerticeFactory.createRoot(subjectVariable, query, nodeShape, fields);
+    Optional<List<TripleTemplate>> tripleTemplates = VerticeHelper.getTripleTemplates(root);
+
+    if (tripleTemplates.isEmpty()) {
+      return Optional.empty();
+    }
+
+    // distinct by name, since the projection may not repeat a variable
+    Map<String, Variable> projection = new LinkedHashMap<>();
+    projection.put(subjectVariable.getQueryString(), subjectVariable);
+    tripleTemplates.get()
+        .forEach(template -> {
+          projection.putIfAbsent(template.getSubject()
+              .getQueryString(), template.getSubject());
+          projection.putIfAbsent(template.getObject()
+              .getQueryString(), template.getObject());
+        });
+
+    // joins of multi-valued properties repeat rows, which add nothing to the index
+    query.distinct()
+        .select(projection.values()
+            .toArray(new Variable[] {}))
+        .where(VerticeHelper.getWherePatterns(root)
+            .toArray(new GraphPattern[] {}));
+
+    return Optional
+        .of(new RowQueryPlan(new GraphQueryPlan(query.getQueryString(), subjectVariable), tripleTemplates.get()));
+  }
+}
@@ -0,0 +1,71 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+
+final class RowQueryPlan {
+
+  private final GraphQueryPlan queryPlan;
+
+  private final List<TripleTemplate> tripleTemplates;
+
+  private final String[] subjectNames;
+
+  private final String[] objectNames;
+
+  RowQueryPlan(GraphQueryPlan queryPlan, List<TripleTemplate> tripleTemplates) {
+    this.queryPlan = queryPlan;
+    this.tripleTemplates = tripleTemplates;
+    this.subjectNames = tripleTemplates.stream()
+        .map(template -> template.getSubject()
+            .getQueryString()
+            .substring(1))
+        .toArray(String[]::new);
+    this.objectNames = tripleTemplates.stream()
+        .map(template -> template.getObject()
+            .getQueryString()
+            .substring(1))
+        .toArray(String[]::new);
+  }
+
+  String bind(List<IRI> subjects, IriCompactor iriCompactor) {
+    return queryPlan.bind(subjects, true, iriCompactor);
+  }
+
+  /*
+   * Reads the rows one by one and adds the triples the construct patterns would produce for each row
+   * to the index, so neither the rows nor an intermediate model are held in memory. The number of
+   * rows read is reported to the row counter.
+   */
+  ModelIndex collect(TupleQueryResult queryResult, IntConsumer rowCounter) {
+    ModelIndex.Builder builder = ModelIndex.builder();
+    int rowCount = 0;
+
+    try (queryResult) {
+      while (queryResult.hasNext()) {
+        BindingSet row = queryResult.next();
+        rowCount++;
+
+        for (int i = 0; i < subjectNames.length; i++) {
+          Value subject = row.getValue(subjectNames[i]);
+          Value object = row.getValue(objectNames[i]);
+
+          if (subject instanceof Resource && object != null) {
+            builder.add((Resource) subject, tripleTemplates.get(i)
+                .getPredicate(), object);
+          }
+        }
+      }
+    }
+
+    rowCounter.accept(rowCount);
+    return builder.build();
+  }
+}
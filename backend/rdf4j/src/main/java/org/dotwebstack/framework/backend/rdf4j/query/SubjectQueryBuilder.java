@@ -1,26 +1,36 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
+import static java.util.Collections.singletonList;
 import static org.dotwebstack.framework.backend.rdf4j.query.context.FilterHelper.getFilterRulePath;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+import static org.dotwebstack.framework.core.helpers.ObjectHelper.castToList;
 
 import graphql.schema.GraphQLDirective;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.NonNull;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.MapContext;
 import org.dotwebstack.framework.backend.rdf4j.directives.Rdf4jDirectives;
 import org.dotwebstack.framework.backend.rdf4j.query.context.FilterRule;
+import org.dotwebstack.framework.backend.rdf4j.query.context.OrderKey;
 import org.dotwebstack.framework.backend.rdf4j.query.context.SelectVerticeFactory;
 import org.dotwebstack.framework.backend.rdf4j.query.context.Vertice;
 import org.dotwebstack.framework.backend.rdf4j.query.context.VerticeHelper;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.core.directives.CoreDirectives;
 import org.dotwebstack.framework.core.jexl.JexlHelper;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.core.traversers.DirectiveContainerTuple;
+import org.eclipse.rdf4j.rio.ntriples.NTriplesUtil;
+import org.eclipse.rdf4j.sparqlbuilder.constraint.Aggregate;
+import org.eclipse.rdf4j.sparqlbuilder.constraint.Expressions;
 import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.core.query.Queries;
@@ -29,7 +39,16 @@ import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
 
 class SubjectQueryBuilder extends AbstractQueryBuilder<SelectQuery> {
 
-  private static final Variable SUBJECT_VAR = SparqlBuilder.var("s");
+  static final Variable SUBJECT_VAR = SparqlBuilder.var("s");
+
+  static final String ORDER_VAR_PREFIX = "o";
+
+  private static final String PARAMETER_PREFIX = "urn:dotwebstack:parameter:";
+
+  private static final Pattern PARAMETER_PATTERN =
+      Pattern.compile("\"" + PARAMETER_PREFIX + "(\\d+)\"|<" + PARAMETER_PREFIX + "(\\d+)>");
+
+  private static final Pattern IRI_PATTERN = Pattern.compile("[^\\x00-\\x20<>\"{}|^`\\\\]*");
 
   private final JexlHelper jexlHelper;
 
@@ -37,28 +56,48 @@ class SubjectQueryBuilder extends AbstractQueryBuilder<SelectQuery> {
 
   private final SelectVerticeFactory selectVerticeFactory;
 
-  private SubjectQueryBuilder(@NonNull QueryEnvironment environment, @NonNull JexlEngine jexlEngine,
+  private SubjectQueryBuilder(@NonNull QueryEnvironment environment, @NonNull JexlRegistry jexlRegistry,
       @NonNull SelectVerticeFactory selectVerticeFactory) {
     super(environment, Queries.SELECT());
-    this.jexlHelper = new JexlHelper(jexlEngine);
+    this.jexlHelper = new JexlHelper(jexlRegistry);
     this.nodeShape = this.environment.getNodeShapeRegistry()
         .get(this.environment.getObjectType());
     this.selectVerticeFactory = selectVerticeFactory;
   }
 
-  static SubjectQueryBuilder create(@NonNull QueryEnvironment environment, @NonNull JexlEngine jexlEngine,
+  static SubjectQueryBuilder create(@NonNull QueryEnvironment environment, @NonNull JexlRegistry jexlRegistry,
       @NonNull SelectVerticeFactory selectVerticeFactory) {
-    return new SubjectQueryBuilder(environment, jexlEngine, selectVerticeFactory);
+    return new SubjectQueryBuilder(environment, jexlRegistry, selectVerticeFactory);
   }
 
-  String getQueryString(final Map<String, Object> arguments, final GraphQLDirective sparqlDirective,
-      List<DirectiveContainerTuple> filterMapping) {
-    final MapContext context = new MapContext(arguments);
+  static List<Object> planKey(QueryEnvironment environment, List<DirectiveContainerTuple> filterMapping,
+      List<Object> orderBy, boolean subSelect) {
+    List<Object> filterShape = filterMapping.stream()
+        .map(tuple -> Arrays.asList(tuple.getContainer(), getFilterValues(tuple).size()))
+        .collect(Collectors.toList());
+
+    return Arrays.asList(SubjectQueryBuilder.class, environment.getFieldDefinition(), filterShape, orderBy, subSelect);
+  }
 
+  List<Object> getOrderBy(final Map<String, Object> arguments, final GraphQLDirective sparqlDirective) {
     @SuppressWarnings({"unchecked", "rawtypes"})
-    List<Object> orderByObject =
-        jexlHelper.evaluateDirectiveArgument(Rdf4jDirectives.SPARQL_ARG_ORDER_BY, sparqlDirective, context, List.class)
-            .orElse(new ArrayList());
+    List<Object> orderByObject = jexlHelper
+        .evaluateDirectiveArgument(Rdf4jDirectives.SPARQL_ARG_ORDER_BY, sparqlDirective, new MapContext(arguments),
+            List.class)
+        .orElse(new ArrayList());
+
+    return orderByObject;
+  }
+
+  /*
+   * Compiles the subject query into a template in which every filter value is replaced by a parameter
+   * and LIMIT/OFFSET are left out. When compiled as a sub-select, the order keys are additionally
+   * projected as aggregates ?o0, ?o1, ..., so the ordering can be restored from the outer query
+   * result.
+   */
+  SubjectQueryPlan compile(final GraphQLDirective sparqlDirective, List<DirectiveContainerTuple> filterMapping,
+      List<Object> orderBy, boolean subSelect) {
+    AtomicInteger parameterIndex = new AtomicInteger();
 
     List<FilterRule> filterRules = filterMapping.stream()
         .map(filterRule -> FilterRule.builder()
@@ -67,26 +106,105 @@ class SubjectQueryBuilder extends AbstractQueryBuilder<SelectQuery> {
                 .getDirective(CoreDirectives.FILTER_NAME)
                 .getArgument(CoreDirectives.FILTER_ARG_OPERATOR)
                 .getValue())
-            .value(filterRule.getValue())
+            .value(parameterize(filterRule.getValue(), parameterIndex))
             .build())
         .collect(Collectors.toList());
 
-    Vertice root = selectVerticeFactory.createRoot(SUBJECT_VAR, query, nodeShape, filterRules, orderByObject);
+    Vertice root = selectVerticeFactory.createRoot(SUBJECT_VAR, query, nodeShape, filterRules, orderBy);
 
     query.select(root.getSubject())
         .where(VerticeHelper.getWherePatterns(root)
             .toArray(new GraphPattern[] {}));
 
-    getLimitFromContext(context, sparqlDirective).ifPresent(query::limit);
-    getOffsetFromContext(context, sparqlDirective).ifPresent(query::offset);
-    root.getOrderables()
-        .forEach(query::orderBy);
-
     if (distinctQuery(sparqlDirective)) {
-      return this.query.distinct()
-          .getQueryString();
+      query.distinct();
+    }
+
+    List<OrderKey> orderKeys = root.getOrderKeys();
+
+    if (subSelect && !orderKeys.isEmpty()) {
+      aggregateOrderKeys(orderKeys);
+    } else {
+      root.getOrderables()
+          .forEach(query::orderBy);
     }
-    return this.query.getQueryString();
+
+    return new SubjectQueryPlan(query.getQueryString(), orderKeys);
+  }
+
+  /*
+   * Projects every order key as one aggregated value per subject: the lowest value for ascending and
+   * the highest value for descending keys. Subjects with multi-valued keys then occupy a single row,
+   * so LIMIT/OFFSET keep counting subjects.
+   */
+  private void aggregateOrderKeys(List<OrderKey> orderKeys) {
+    for (int i = 0; i < orderKeys.size(); i++) {
+      OrderKey orderKey = orderKeys.get(i);
+      Variable orderVariable = SparqlBuilder.var(ORDER_VAR_PREFIX + i);
+      Aggregate aggregate =
+          orderKey.isAscending() ? Expressions.min(orderKey.getVariable()) : Expressions.max(orderKey.getVariable());
+
+      query.select(SparqlBuilder.as(aggregate, orderVariable))
+          .orderBy(orderKey.isAscending() ? orderVariable.asc() : orderVariable.desc());
+    }
+
+    query.groupBy(SUBJECT_VAR);
+  }
+
+  String bind(SubjectQueryPlan plan, final Map<String, Object> arguments, final GraphQLDirective sparqlDirective,
+      List<DirectiveContainerTuple> filterMapping) {
+    final MapContext context = new MapContext(arguments);
+
+    List<String> values = filterMapping.stream()
+        .flatMap(tuple -> getFilterValues(tuple).stream())
+        .map(selectVerticeFactory::serialize)
+        .collect(Collectors.toList());
+
+    // substitute in a single pass, so values are never scanned for parameters themselves
+    Matcher matcher = PARAMETER_PATTERN.matcher(plan.getTemplate());
+    StringBuilder builder = new StringBuilder();
+
+    while (matcher.find()) {
+      String replacement = matcher.group(1) != null ? bindLiteral(values.get(Integer.parseInt(matcher.group(1))))
+          : bindIri(values.get(Integer.parseInt(matcher.group(2))));
+      matcher.appendReplacement(builder, Matcher.quoteReplacement(replacement));
+    }
+
+    matcher.appendTail(builder);
+
+    getLimitFromContext(context, sparqlDirective).ifPresent(limit -> builder.append("\nLIMIT ")
+        .append(limit));
+    getOffsetFromContext(context, sparqlDirective).ifPresent(offset -> builder.append("\nOFFSET ")
+        .append(offset));
+
+    return builder.toString();
+  }
+
+  private static String bindLiteral(String value) {
+    return "\"" + NTriplesUtil.escapeString(value) + "\"";
+  }
+
+  private static String bindIri(String value) {
+    if (!IRI_PATTERN.matcher(value)
+        .matches()) {
+      throw illegalArgumentException("Filter value '{}' is not a valid IRI.", value);
+    }
+
+    return "<" + value + ">";
+  }
+
+  private static Object parameterize(Object value, AtomicInteger parameterIndex) {
+    if (value instanceof List) {
+      return castToList(value).stream()
+          .map(item -> PARAMETER_PREFIX + parameterIndex.getAndIncrement())
+          .collect(Collectors.toList());
+    }
+
+    return PARAMETER_PREFIX + parameterIndex.getAndIncrement();
+  }
+
+  private static List<Object> getFilterValues(DirectiveContainerTuple tuple) {
+    return tuple.getValue() instanceof List ? castToList(tuple.getValue()) : singletonList(tuple.getValue());
   }
 
   private boolean distinctQuery(@NonNull GraphQLDirective sparqlDirective) {
@@ -0,0 +1,18 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import java.util.List;
+import lombok.Getter;
+import org.dotwebstack.framework.backend.rdf4j.query.context.OrderKey;
+
+@Getter
+final class SubjectQueryPlan {
+
+  private final String template;
+
+  private final List<OrderKey> orderKeys;
+
+  SubjectQueryPlan(String template, List<OrderKey> orderKeys) {
+    this.template = template;
+    this.orderKeys = orderKeys;
+  }
+}
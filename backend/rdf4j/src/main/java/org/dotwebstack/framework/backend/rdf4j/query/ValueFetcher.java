@@ -1,29 +1,23 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
-import static org.dotwebstack.framework.backend.rdf4j.helper.MemStatementListHelper.listOf;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
 
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeUtil;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
 import org.dotwebstack.framework.backend.rdf4j.converters.Rdf4jConverterRouter;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
 import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
 import org.dotwebstack.framework.core.datafetchers.SourceDataFetcher;
 import org.eclipse.rdf4j.model.BNode;
-import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.model.impl.SimpleIRI;
-import org.eclipse.rdf4j.model.vocabulary.RDF;
-import org.eclipse.rdf4j.sail.memory.model.MemResource;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -44,12 +38,12 @@ public final class ValueFetcher extends SourceDataFetcher {
     PropertyShape propertyShape = getPropertyShape(environment);
 
     if (GraphQLTypeUtil.isList(fieldType)) {
-      return resolve(propertyShape, source).map(value -> convert(source.getModel(), propertyShape, value))
+      return resolve(propertyShape, source).map(value -> convert(source.getModelIndex(), propertyShape, value))
           .collect(Collectors.toList());
     }
 
     if (GraphQLTypeUtil.isScalar(fieldType) || fieldType instanceof GraphQLObjectType) {
-      return resolve(propertyShape, source).map(value -> convert(source.getModel(), propertyShape, value))
+      return resolve(propertyShape, source).map(value -> convert(source.getModelIndex(), propertyShape, value))
           .findFirst()
           .orElse(null);
     }
@@ -72,34 +66,18 @@ public final class ValueFetcher extends SourceDataFetcher {
   }
 
   private Stream<Value> resolve(PropertyShape propertyShape, QuerySolution source) {
+    ModelIndex modelIndex = source.getModelIndex();
+
     return propertyShape.getPath()
-        .resolvePath(source.getModel(), source.getSubject())
+        .resolvePath(modelIndex, source.getSubject())
         .stream()
-        .filter(result -> {
-          if (propertyShape.getNode() != null) {
-            if (result instanceof SimpleIRI) {
-              return true;
-            }
-
-            return resultIsOfType(result, propertyShape.getNode()
-                .getTargetClasses());
-          }
-          return true;
-        });
-  }
-
-  private boolean resultIsOfType(Value value, Set<IRI> types) {
-    return listOf(((MemResource) value).getSubjectStatementList()).stream()
-        .anyMatch(statement -> statement.getPredicate()
-            .equals(RDF.TYPE)
-            && types.stream()
-                .anyMatch(type -> statement.getObject()
-                    .equals(type)));
+        .filter(result -> propertyShape.getNode() == null || modelIndex.isOfAnyType(result, propertyShape.getNode()
+            .getTargetClasses()));
   }
 
-  private Object convert(@NonNull Model model, @NonNull PropertyShape propertyShape, @NonNull Value value) {
+  private Object convert(@NonNull ModelIndex modelIndex, @NonNull PropertyShape propertyShape, @NonNull Value value) {
     if (propertyShape.getNode() != null || BNode.class.isAssignableFrom(value.getClass())) {
-      return new QuerySolution(model, (Resource) value);
+      return new QuerySolution(modelIndex, (Resource) value);
     }
 
     return this.converterRouter.convert(value);
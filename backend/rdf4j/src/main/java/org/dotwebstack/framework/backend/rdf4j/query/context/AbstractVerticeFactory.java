@@ -1,6 +1,7 @@
 package org.dotwebstack.framework.backend.rdf4j.query.context;
 
 import static java.util.Collections.singletonList;
+import static org.dotwebstack.framework.backend.rdf4j.helper.IriHelper.stringify;
 import static org.dotwebstack.framework.backend.rdf4j.query.context.FilterHelper.getFilterRulePath;
 import static org.dotwebstack.framework.backend.rdf4j.query.context.FilterHelper.getOperand;
 import static org.dotwebstack.framework.backend.rdf4j.query.context.VerticeFactoryHelper.getNextNodeShape;
@@ -49,6 +50,10 @@ abstract class AbstractVerticeFactory {
     this.rdf4jProperties = rdf4jProperties;
   }
 
+  public String serialize(Object value) {
+    return serializerRouter.serialize(value);
+  }
+
   Edge createSimpleEdge(Variable subject, BasePath basePath, boolean isOptional, boolean isVisible) {
     return Edge.builder()
         .predicate(basePath.toPredicate())
@@ -73,6 +78,26 @@ abstract class AbstractVerticeFactory {
         .build();
   }
 
+  /*
+   * Binds the type of the subject to the given variable and restricts it to the given classes, so the
+   * matched type can be constructed as well.
+   */
+  Edge createTypeEdge(Variable type, Set<Iri> iris) {
+    return Edge.builder()
+        .predicate(() -> stringify(RDF.TYPE))
+        .object(Vertice.builder()
+            .subject(type)
+            .iris(iris)
+            .filters(singletonList(Filter.builder()
+                .operator(FilterOperator.EQ)
+                .operands(new ArrayList<>(iris))
+                .build()))
+            .build())
+        .isVisible(true)
+        .isOptional(false)
+        .build();
+  }
+
   Map<GraphQLArgument, SelectedField> getArgumentFieldMapping(NodeShape nodeShape, List<SelectedField> fields) {
     return fields.stream()
         .filter(field -> !field.getQualifiedName()
@@ -265,9 +290,18 @@ abstract class AbstractVerticeFactory {
       subject = getSubjectForField(match, childShape, fieldPaths);
     }
 
+    boolean ascending = Objects.nonNull(order) && !order.equalsIgnoreCase("desc");
+
     List<Orderable> orderables = Objects.nonNull(vertice.getOrderables()) ? vertice.getOrderables() : new ArrayList<>();
-    orderables.add((Objects.isNull(order) || order.equalsIgnoreCase("desc")) ? subject.desc() : subject.asc());
+    orderables.add(ascending ? subject.asc() : subject.desc());
     vertice.setOrderables(orderables);
+
+    List<OrderKey> orderKeys = Objects.nonNull(vertice.getOrderKeys()) ? vertice.getOrderKeys() : new ArrayList<>();
+    orderKeys.add(OrderKey.builder()
+        .variable(subject)
+        .ascending(ascending)
+        .build());
+    vertice.setOrderKeys(orderKeys);
   }
 
   void addLanguageFilter(Edge edge, PropertyShape propertyShape) {
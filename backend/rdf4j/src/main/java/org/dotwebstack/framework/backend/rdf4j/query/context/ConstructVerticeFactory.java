@@ -1,9 +1,10 @@
 package org.dotwebstack.framework.backend.rdf4j.query.context;
 
-import static org.dotwebstack.framework.backend.rdf4j.helper.IriHelper.stringify;
-
 import graphql.schema.SelectedField;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,7 +14,6 @@ import org.dotwebstack.framework.backend.rdf4j.serializers.SerializerRouter;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.propertypath.BasePath;
-import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.core.query.OuterQuery;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.Iri;
@@ -23,10 +23,70 @@ import org.springframework.stereotype.Component;
 @Component
 public class ConstructVerticeFactory extends AbstractVerticeFactory {
 
+  public static final String DEFAULT_BRANCH = "default";
+
   public ConstructVerticeFactory(SerializerRouter serializerRouter, Rdf4jProperties rdf4jProperties) {
     super(serializerRouter, rdf4jProperties);
   }
 
+  /*
+   * Groups the selected fields into branches with at most one multi-valued property each. The
+   * optional patterns of two multi-valued properties in one query make the engine join all of their
+   * values, so these are fetched in separate queries. Single-valued properties join at most one value
+   * and are added to the first branch. Branches are named after their multi-valued field, not its
+   * alias, since the compiled branches are shared by requests that only differ in their aliases. A
+   * property selected more than once still gets a branch per selection, numbered in selection order.
+   */
+  public Map<String, List<SelectedField>> splitBranches(@NonNull NodeShape nodeShape,
+      @NonNull List<SelectedField> fields) {
+    List<SelectedField> rootFields = fields.stream()
+        .filter(field -> !field.getQualifiedName()
+            .contains("/"))
+        .collect(Collectors.toList());
+
+    List<SelectedField> multiValuedFields = rootFields.stream()
+        .filter(field -> nodeShape.getPropertyShape(field.getName())
+            .getMaxCount() > 1)
+        .collect(Collectors.toList());
+
+    if (multiValuedFields.size() < 2) {
+      return Map.of(DEFAULT_BRANCH, fields);
+    }
+
+    List<SelectedField> singleValuedFields = rootFields.stream()
+        .filter(field -> !multiValuedFields.contains(field))
+        .collect(Collectors.toList());
+
+    Map<String, List<SelectedField>> branches = new LinkedHashMap<>();
+
+    for (SelectedField multiValuedField : multiValuedFields) {
+      List<SelectedField> branchRoots = new ArrayList<>();
+      branchRoots.add(multiValuedField);
+
+      if (branches.isEmpty()) {
+        branchRoots.addAll(singleValuedFields);
+      }
+
+      branches.put(getBranchName(branches, multiValuedField), fields.stream()
+          .filter(field -> branchRoots.stream()
+              .anyMatch(root -> field == root || field.getQualifiedName()
+                  .startsWith(root.getQualifiedName() + "/")))
+          .collect(Collectors.toList()));
+    }
+
+    return branches;
+  }
+
+  private static String getBranchName(Map<String, ?> branches, SelectedField field) {
+    String branchName = field.getName();
+
+    for (int occurrence = 2; branches.containsKey(branchName); occurrence++) {
+      branchName = field.getName() + "#" + occurrence;
+    }
+
+    return branchName;
+  }
+
   public Vertice createRoot(@NonNull final Variable subject, @NonNull OuterQuery<?> query, @NonNull NodeShape nodeShape,
       @NonNull List<SelectedField> fields) {
     return createVertice(subject, query, nodeShape, fields);
@@ -61,7 +121,8 @@ public class ConstructVerticeFactory extends AbstractVerticeFactory {
         .map(targetClass -> Rdf.iri(targetClass.stringValue()))
         .collect(Collectors.toSet());
 
-    edges.add(createSimpleEdge(null, iris, () -> stringify(RDF.TYPE), true));
+    // the type is constructed, so the value fetchers can check it without access to the repository
+    edges.add(createTypeEdge(query.var(), iris));
 
     getArgumentFieldMapping(nodeShape, fields)
         .forEach((argument, field) -> findEdgesToBeProcessed(nodeShape, field, edges)
@@ -0,0 +1,15 @@
+package org.dotwebstack.framework.backend.rdf4j.query.context;
+
+import lombok.Builder;
+import lombok.Data;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+
+@Data
+@Builder
+public class OrderKey {
+
+  private Variable variable;
+
+  private boolean ascending;
+
+}
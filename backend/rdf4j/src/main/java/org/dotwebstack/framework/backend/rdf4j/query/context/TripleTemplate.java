@@ -0,0 +1,22 @@
+package org.dotwebstack.framework.backend.rdf4j.query.context;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+
+/*
+ * A construct pattern with variables for subject and object, which SELECT based fetching fills in
+ * from the bindings of each row.
+ */
+@Builder
+@Getter
+public class TripleTemplate {
+
+  private final Variable subject;
+
+  private final IRI predicate;
+
+  private final Variable object;
+
+}
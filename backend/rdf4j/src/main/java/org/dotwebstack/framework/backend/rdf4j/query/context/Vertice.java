@@ -25,4 +25,7 @@ public class Vertice {
 
   @Builder.Default
   private List<Orderable> orderables = new ArrayList<>();
+
+  @Builder.Default
+  private List<OrderKey> orderKeys = new ArrayList<>();
 }
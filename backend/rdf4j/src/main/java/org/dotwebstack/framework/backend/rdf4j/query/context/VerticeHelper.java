@@ -7,18 +7,26 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.dotwebstack.framework.core.directives.FilterJoinType;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.sparqlbuilder.constraint.Expression;
 import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPattern;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.GraphPatterns;
 import org.eclipse.rdf4j.sparqlbuilder.graphpattern.TriplePattern;
+import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
 
 @Slf4j
 public class VerticeHelper {
 
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
   private VerticeHelper() {}
 
   public static List<TriplePattern> getConstructPatterns(Vertice vertice) {
@@ -46,6 +54,63 @@ public class VerticeHelper {
     return triplePatterns;
   }
 
+  /*
+   * Returns the construct patterns as templates for SELECT based fetching, or an empty optional when
+   * a construct predicate is not a single IRI, which a row cannot be mapped to.
+   */
+  public static Optional<List<TripleTemplate>> getTripleTemplates(Vertice vertice) {
+    List<Edge> edges = vertice.getEdges();
+    Collections.sort(edges);
+
+    List<TripleTemplate> tripleTemplates = new ArrayList<>();
+
+    for (Edge edge : edges) {
+      Variable object = edge.getObject()
+          .getSubject();
+
+      if (edge.isVisible() && Objects.nonNull(object)) {
+        Optional<IRI> predicate = toIri(edge.getConstructPredicate());
+
+        if (predicate.isEmpty()) {
+          LOG.debug("Construct predicate '{}' cannot be selected", edge.getConstructPredicate()
+              .getQueryString());
+          return Optional.empty();
+        }
+
+        tripleTemplates.add(TripleTemplate.builder()
+            .subject(vertice.getSubject())
+            .predicate(predicate.get())
+            .object(object)
+            .build());
+      }
+
+      Optional<List<TripleTemplate>> objectTemplates = getTripleTemplates(edge.getObject());
+
+      if (objectTemplates.isEmpty()) {
+        return Optional.empty();
+      }
+
+      tripleTemplates.addAll(objectTemplates.get());
+    }
+
+    return Optional.of(tripleTemplates);
+  }
+
+  private static Optional<IRI> toIri(RdfPredicate predicate) {
+    String queryString = predicate.getQueryString();
+
+    if (queryString.startsWith("<") && queryString.endsWith(">")
+        && queryString.indexOf('>') == queryString.length() - 1) {
+      return Optional.of(VF.createIRI(queryString.substring(1, queryString.length() - 1)));
+    }
+
+    if ("a".equals(queryString)) {
+      return Optional.of(RDF.TYPE);
+    }
+
+    return Optional.empty();
+  }
+
   public static List<GraphPattern> getWherePatterns(Vertice vertice) {
 
     List<Edge> edges = vertice.getEdges();
@@ -0,0 +1,113 @@
+package org.dotwebstack.framework.backend.rdf4j.reactive;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.ntriples.NTriplesUtil;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Splits the response buffers of an N-Triples result into lines and emits the statement of every
+ * line as soon as the line is complete. Lines are split on bytes, so multi-byte characters spanning
+ * two buffers are decoded as a whole.
+ */
+final class NTriplesStatementParser {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+  private NTriplesStatementParser() {}
+
+  static Flux<Statement> parse(Flux<DataBuffer> body) {
+    return Flux.defer(() -> {
+      NTriplesStatementParser statementParser = new NTriplesStatementParser();
+      return body.concatMapIterable(statementParser::feed)
+          .concatWith(Mono.fromCallable(statementParser::finish)
+              .flatMapIterable(statements -> statements));
+    });
+  }
+
+  private List<Statement> feed(DataBuffer buffer) {
+    List<Statement> statements = new ArrayList<>();
+
+    try {
+      while (buffer.readableByteCount() > 0) {
+        byte current = buffer.read();
+
+        if (current == '\n') {
+          addStatement(statements);
+        } else {
+          line.write(current);
+        }
+      }
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+
+    return statements;
+  }
+
+  private List<Statement> finish() {
+    List<Statement> statements = new ArrayList<>();
+    addStatement(statements);
+    return statements;
+  }
+
+  private void addStatement(List<Statement> statements) {
+    String text = new String(line.toByteArray(), StandardCharsets.UTF_8).trim();
+    line.reset();
+
+    if (text.isEmpty() || text.startsWith("#")) {
+      return;
+    }
+
+    statements.add(parseStatement(text));
+  }
+
+  static Statement parseStatement(String text) {
+    int subjectEnd = indexOfWhitespace(text, 0);
+    int predicateStart = skipWhitespace(text, subjectEnd);
+    int predicateEnd = indexOfWhitespace(text, predicateStart);
+
+    if (subjectEnd < 0 || predicateEnd < 0 || !text.endsWith(".")) {
+      throw illegalArgumentException("Could not parse N-Triples statement: {}", text);
+    }
+
+    String object = text.substring(predicateEnd, text.length() - 1)
+        .trim();
+
+    return VF.createStatement(NTriplesUtil.parseResource(text.substring(0, subjectEnd), VF),
+        NTriplesUtil.parseURI(text.substring(predicateStart, predicateEnd), VF), NTriplesUtil.parseValue(object, VF));
+  }
+
+  private static int indexOfWhitespace(String text, int from) {
+    for (int i = from; i >= 0 && i < text.length(); i++) {
+      if (Character.isWhitespace(text.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipWhitespace(String text, int from) {
+    if (from < 0) {
+      return -1;
+    }
+
+    int i = from;
+    while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+}
@@ -0,0 +1,152 @@
+package org.dotwebstack.framework.backend.rdf4j.reactive;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.unsupportedOperationException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import graphql.schema.DataFetchingEnvironment;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ReactiveProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.RepositoryProperties;
+import org.dotwebstack.framework.backend.rdf4j.ReactiveRepositoryAdapter;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.GraphQuery;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+
+/*
+ * Sends queries to a SPARQL protocol endpoint with the non-blocking web client. Results are parsed
+ * while they arrive, so a pending query holds no thread, only a connection.
+ */
+public class ReactiveSparqlRepositoryAdapter implements ReactiveRepositoryAdapter {
+
+  public static final String SPARQL_REACTIVE_REPOSITORY_TYPE = "sparql-reactive";
+
+  static final String SPARQL_REACTIVE_REPOSITORY_ARG_ENDPOINT_URL = "endpointUrl";
+
+  private static final String READ_TIMEOUT_HANDLER = "readTimeout";
+
+  private static final MediaType SPARQL_QUERY = MediaType.valueOf("application/sparql-query");
+
+  private static final MediaType SPARQL_RESULTS_JSON = MediaType.valueOf("application/sparql-results+json");
+
+  private static final MediaType N_TRIPLES = MediaType.valueOf("application/n-triples");
+
+  private final WebClient webClient;
+
+  private final Map<String, URI> endpoints = new HashMap<>();
+
+  private final JsonFactory jsonFactory = new JsonFactory();
+
+  public ReactiveSparqlRepositoryAdapter(@NonNull WebClient webClient, Map<String, RepositoryProperties> repositories) {
+    this.webClient = webClient;
+
+    if (repositories != null) {
+      repositories.entrySet()
+          .stream()
+          .filter(entry -> SPARQL_REACTIVE_REPOSITORY_TYPE.equals(entry.getValue()
+              .getType()))
+          .forEach(entry -> endpoints.put(entry.getKey(), getEndpoint(entry.getKey(), entry.getValue())));
+    }
+  }
+
+  @Override
+  public Flux<BindingSet> evaluateTupleQuery(@NonNull String repositoryId, @NonNull String query) {
+    return SparqlJsonResultParser.parse(jsonFactory, exchange(repositoryId, query, SPARQL_RESULTS_JSON));
+  }
+
+  @Override
+  public Flux<Statement> evaluateGraphQuery(@NonNull String repositoryId, @NonNull String query) {
+    return NTriplesStatementParser.parse(exchange(repositoryId, query, N_TRIPLES));
+  }
+
+  @Override
+  public TupleQuery prepareTupleQuery(String repositoryId, DataFetchingEnvironment environment, String query) {
+    throw unsupportedOperationException("Repository '{}' can only be queried asynchronously.", repositoryId);
+  }
+
+  @Override
+  public GraphQuery prepareGraphQuery(String repositoryId, DataFetchingEnvironment environment, String query,
+      List<String> subjectIris) {
+    throw unsupportedOperationException("Repository '{}' can only be queried asynchronously.", repositoryId);
+  }
+
+  @Override
+  public boolean supports(String repositoryId) {
+    return endpoints.containsKey(repositoryId);
+  }
+
+  @Override
+  public boolean addGraphQueryValuesBlock() {
+    return true;
+  }
+
+  private Flux<DataBuffer> exchange(String repositoryId, String query, MediaType resultType) {
+    URI endpoint = endpoints.get(repositoryId);
+
+    if (endpoint == null) {
+      return Flux
+          .error(unsupportedOperationException("Repository '{}' is not a reactive SPARQL repository.", repositoryId));
+    }
+
+    return webClient.post()
+        .uri(endpoint)
+        .contentType(SPARQL_QUERY)
+        .accept(resultType)
+        .syncBody(query)
+        .exchange()
+        .flatMapMany(response -> {
+          if (response.rawStatusCode() >= 400) {
+            return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMapMany(body -> Flux.error(
+                    new DotWebStackRuntimeException("SPARQL endpoint of repository '{}' responded with status {}: {}",
+                        repositoryId, response.rawStatusCode(), body)));
+          }
+
+          return response.body(BodyExtractors.toDataBuffers());
+        });
+  }
+
+  /*
+   * Creates the connector for the web client, which fails a query when connecting or waiting for the
+   * next part of the response takes longer than configured. The read timeout only guards a pending
+   * exchange: it is removed again when the response has been read, so it does not close pooled
+   * connections while they are idle.
+   */
+  public static ClientHttpConnector createConnector(@NonNull ReactiveProperties properties) {
+    return new ReactorClientHttpConnector(HttpClient.create()
+        .tcpConfiguration(
+            tcpClient -> tcpClient.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout()))
+        .doOnRequest((request, connection) -> connection.addHandlerLast(READ_TIMEOUT_HANDLER,
+            new ReadTimeoutHandler(properties.getReadTimeout(), TimeUnit.MILLISECONDS)))
+        .doAfterResponse((response, connection) -> connection.removeHandler(READ_TIMEOUT_HANDLER)));
+  }
+
+  private static URI getEndpoint(String repositoryId, RepositoryProperties repository) {
+    Object endpointUrl = repository.getArgs() != null ? repository.getArgs()
+        .get(SPARQL_REACTIVE_REPOSITORY_ARG_ENDPOINT_URL) : null;
+
+    if (endpointUrl == null) {
+      throw invalidConfigurationException("Repository '{}' has no endpointUrl.", repositoryId);
+    }
+
+    return URI.create(endpointUrl.toString());
+  }
+}
@@ -0,0 +1,187 @@
+package org.dotwebstack.framework.backend.rdf4j.reactive;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Feeds the response buffers of a SPARQL JSON result to a non-blocking Jackson parser and emits
+ * every binding as soon as it is complete, so large results are never held as a whole.
+ */
+final class SparqlJsonResultParser {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final String ROOT = "";
+
+  private static final String ELEMENT = "[]";
+
+  private final JsonParser parser;
+
+  private final ByteArrayFeeder feeder;
+
+  private final List<String> path = new ArrayList<>();
+
+  private final List<Boolean> arrays = new ArrayList<>();
+
+  private String fieldName;
+
+  private MapBindingSet binding;
+
+  private String variable;
+
+  private Map<String, String> term;
+
+  private SparqlJsonResultParser(JsonFactory jsonFactory) {
+    try {
+      this.parser = jsonFactory.createNonBlockingByteArrayParser();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not create a parser for the SPARQL result.", e);
+    }
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  static Flux<BindingSet> parse(JsonFactory jsonFactory, Flux<DataBuffer> body) {
+    return Flux.defer(() -> {
+      SparqlJsonResultParser resultParser = new SparqlJsonResultParser(jsonFactory);
+      return body.concatMapIterable(resultParser::feed)
+          .concatWith(Mono.fromCallable(resultParser::finish)
+              .flatMapIterable(bindings -> bindings));
+    });
+  }
+
+  private List<BindingSet> feed(DataBuffer buffer) {
+    try {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      feeder.feedInput(bytes, 0, bytes.length);
+      return readTokens();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not parse SPARQL result: {}.", e.getMessage());
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  private List<BindingSet> finish() {
+    List<BindingSet> bindings;
+
+    try {
+      feeder.endOfInput();
+      bindings = readTokens();
+      parser.close();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not parse SPARQL result: {}.", e.getMessage());
+    }
+
+    if (!path.isEmpty()) {
+      throw illegalArgumentException("Could not parse SPARQL result: unexpected end of input.");
+    }
+
+    return bindings;
+  }
+
+  private List<BindingSet> readTokens() throws IOException {
+    List<BindingSet> bindings = new ArrayList<>();
+    JsonToken token;
+
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      switch (token) {
+        case FIELD_NAME:
+          fieldName = parser.getCurrentName();
+          break;
+        case START_OBJECT:
+          if (isBindingsArray()) {
+            binding = new MapBindingSet();
+          } else if (binding != null && path.size() == 4) {
+            variable = fieldName;
+            term = new HashMap<>();
+          }
+          push(false);
+          break;
+        case START_ARRAY:
+          push(true);
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          pop();
+          if (term != null && path.size() == 4) {
+            binding.addBinding(variable, toValue(term));
+            term = null;
+          } else if (binding != null && path.size() == 3) {
+            bindings.add(binding);
+            binding = null;
+          }
+          break;
+        default:
+          if (term != null && path.size() == 5) {
+            term.put(fieldName, parser.getText());
+          }
+      }
+    }
+
+    return bindings;
+  }
+
+  private boolean isBindingsArray() {
+    return path.size() == 3 && arrays.get(2) && "results".equals(path.get(1)) && "bindings".equals(path.get(2));
+  }
+
+  private void push(boolean array) {
+    if (path.isEmpty()) {
+      path.add(ROOT);
+    } else {
+      path.add(arrays.get(arrays.size() - 1) ? ELEMENT : fieldName);
+    }
+    arrays.add(array);
+  }
+
+  private void pop() {
+    path.remove(path.size() - 1);
+    arrays.remove(arrays.size() - 1);
+  }
+
+  private static Value toValue(Map<String, String> term) {
+    String value = term.get("value");
+    String type = term.get("type");
+
+    if (value == null || type == null) {
+      throw illegalArgumentException("Could not parse SPARQL result: binding without type or value.");
+    }
+
+    switch (type) {
+      case "uri":
+        return VF.createIRI(value);
+      case "bnode":
+        return VF.createBNode(value);
+      case "literal":
+      case "typed-literal":
+        if (term.containsKey("xml:lang")) {
+          return VF.createLiteral(value, term.get("xml:lang"));
+        }
+        if (term.containsKey("datatype")) {
+          return VF.createLiteral(value, VF.createIRI(term.get("datatype")));
+        }
+        return VF.createLiteral(value);
+      default:
+        throw illegalArgumentException("Could not parse SPARQL result: unknown term type '{}'.", type);
+    }
+  }
+}
@@ -7,12 +7,11 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
 import org.dotwebstack.framework.backend.rdf4j.constants.Rdf4jConstants;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
 
 @Setter
@@ -26,8 +25,8 @@ public abstract class BasePath implements PropertyPath {
       .toLowerCase() + "#" + uuid.toString());
 
   @Override
-  public Set<Value> resolvePath(Model model, Resource subject) {
-    return Models.getProperties(model, subject, getBaseIri());
+  public Set<Value> resolvePath(ModelIndex modelIndex, Resource subject) {
+    return modelIndex.getProperties(subject, getBaseIri());
   }
 
   public RdfPredicate toConstructPredicate() {
@@ -3,11 +3,10 @@ package org.dotwebstack.framework.backend.rdf4j.shacl.propertypath;
 import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.Rdf;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
 
@@ -18,8 +17,8 @@ public class PredicatePath extends BasePath {
   private final IRI iri;
 
   @Override
-  public Set<Value> resolvePath(Model model, Resource subject) {
-    return Models.getProperties(model, subject, this.iri);
+  public Set<Value> resolvePath(ModelIndex modelIndex, Resource subject) {
+    return modelIndex.getProperties(subject, this.iri);
   }
 
   @Override
@@ -1,14 +1,14 @@
 package org.dotwebstack.framework.backend.rdf4j.shacl.propertypath;
 
 import java.util.Set;
-import org.eclipse.rdf4j.model.Model;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.sparqlbuilder.rdf.RdfPredicate;
 
 public interface PropertyPath {
 
-  Set<Value> resolvePath(Model model, Resource subject);
+  Set<Value> resolvePath(ModelIndex modelIndex, Resource subject);
 
   RdfPredicate toPredicate();
 
@@ -36,4 +36,32 @@ class FileFormatsTest {
     assertThat(format, is(equalTo(null)));
   }
 
+  @Test
+  void getFormatForFilename_ReturnsFileFormat_ForBinaryRdf() {
+    // Act
+    RDFFormat format = FileFormats.getFormatForFilename("model.brf");
+
+    // Assert
+    assertThat(format, is(equalTo(RDFFormat.BINARY)));
+  }
+
+  @Test
+  void getFormatForFilename_ReturnsInnerFileFormat_ForGzippedFile() {
+    // Act
+    RDFFormat format = FileFormats.getFormatForFilename("model.trig.gz");
+
+    // Assert
+    assertThat(format, is(equalTo(RDFFormat.TRIG)));
+    assertThat(FileFormats.isGzipped("model.trig.gz"), is(equalTo(true)));
+  }
+
+  @Test
+  void getFormatForFilename_ReturnsNull_ForFilenameWithoutExtension() {
+    // Act
+    RDFFormat format = FileFormats.getFormatForFilename("trig");
+
+    // Assert
+    assertThat(format, is(equalTo(null)));
+  }
+
 }
@@ -0,0 +1,81 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BEERS_TARGET_CLASS;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_EXAMPLE_1;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_NAME_EXAMPLE_1;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_TARGET_CLASS;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.SCHEMA_NAME;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.junit.jupiter.api.Test;
+
+class ModelIndexTest {
+
+  private final Model model = new ModelBuilder().add(BREWERY_EXAMPLE_1, SCHEMA_NAME, BREWERY_NAME_EXAMPLE_1)
+      .add(BREWERY_EXAMPLE_1, RDF.TYPE, BREWERY_TARGET_CLASS)
+      .build();
+
+  @Test
+  void getProperties_ReturnsValues_ForExistingSubjectAndPredicate() {
+    // Act
+    ModelIndex modelIndex = new ModelIndex(model);
+
+    // Assert
+    assertThat(modelIndex.getProperties(BREWERY_EXAMPLE_1, SCHEMA_NAME),
+        is(equalTo(ImmutableSet.of(BREWERY_NAME_EXAMPLE_1))));
+  }
+
+  @Test
+  void getProperties_ReturnsEmptySet_ForMissingPredicate() {
+    // Act
+    ModelIndex modelIndex = new ModelIndex(model);
+
+    // Assert
+    assertThat(modelIndex.getProperties(BREWERY_EXAMPLE_1, RDFS.LABEL)
+        .isEmpty(), is(equalTo(true)));
+  }
+
+  @Test
+  void isOfAnyType_ReturnsTrue_ForMatchingType() {
+    // Act
+    ModelIndex modelIndex = new ModelIndex(model);
+
+    // Assert
+    assertThat(modelIndex.isOfAnyType(BREWERY_EXAMPLE_1, ImmutableSet.of(BEERS_TARGET_CLASS, BREWERY_TARGET_CLASS)),
+        is(equalTo(true)));
+  }
+
+  @Test
+  void isOfAnyType_ReturnsFalse_ForOtherTypeOrLiteral() {
+    // Act
+    ModelIndex modelIndex = new ModelIndex(model);
+
+    // Assert
+    assertThat(modelIndex.isOfAnyType(BREWERY_EXAMPLE_1, ImmutableSet.of(BEERS_TARGET_CLASS)), is(equalTo(false)));
+    assertThat(modelIndex.isOfAnyType(BREWERY_NAME_EXAMPLE_1, ImmutableSet.of(BREWERY_TARGET_CLASS)),
+        is(equalTo(false)));
+  }
+
+  @Test
+  void builder_ReturnsIndexWithModel_ForAddedValues() {
+    // Act
+    ModelIndex modelIndex = ModelIndex.builder()
+        .add(BREWERY_EXAMPLE_1, SCHEMA_NAME, BREWERY_NAME_EXAMPLE_1)
+        .add(BREWERY_EXAMPLE_1, RDF.TYPE, BREWERY_TARGET_CLASS)
+        .build();
+
+    // Assert
+    assertThat(modelIndex.getProperties(BREWERY_EXAMPLE_1, SCHEMA_NAME),
+        is(equalTo(ImmutableSet.of(BREWERY_NAME_EXAMPLE_1))));
+    assertThat(modelIndex.size(), is(equalTo(2)));
+    assertThat(modelIndex.getModel(), is(equalTo(model)));
+  }
+
+}
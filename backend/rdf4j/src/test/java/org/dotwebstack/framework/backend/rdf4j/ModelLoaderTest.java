@@ -0,0 +1,89 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.Cleanup;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.LoaderProperties;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+class ModelLoaderTest {
+
+  private final Repository repository = new SailRepository(new MemoryStore());
+
+  private ModelLoader modelLoader;
+
+  @BeforeEach
+  void setUp() {
+    LoaderProperties properties = new LoaderProperties();
+    properties.setParallelism(2);
+    properties.setBatchSize(1);
+    properties.setCommitSize(2);
+    modelLoader = new ModelLoader(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.shutDown();
+  }
+
+  @Test
+  void load_AddsStatements_ForPlainAndGzippedFiles() throws IOException {
+    // Arrange
+    Resource plainResource = createResource("<http://foo> a <http://bar>, <http://baz> .".getBytes(), "foo.trig");
+    Resource gzippedResource = createResource(gzip("<http://qux> a <http://bar> .".getBytes()), "qux.trig.gz");
+
+    // Act
+    modelLoader.load(repository, new Resource[] {plainResource, gzippedResource});
+
+    // Assert
+    @Cleanup
+    RepositoryConnection con = repository.getConnection();
+    assertThat(con.size(), is(equalTo(3L)));
+  }
+
+  @Test
+  void load_ThrowsException_ForInvalidFile() {
+    // Arrange
+    Resource validResource = createResource("<http://foo> a <http://bar> .".getBytes(), "foo.trig");
+    Resource invalidResource = createResource("<http://foo> a <http://bar".getBytes(), "bar.trig");
+
+    // Act / Assert
+    assertThrows(RDFParseException.class,
+        () -> modelLoader.load(repository, new Resource[] {validResource, invalidResource}));
+  }
+
+  private static Resource createResource(byte[] content, String filename) {
+    return new ByteArrayResource(content) {
+      @Override
+      public String getFilename() {
+        return filename;
+      }
+    };
+  }
+
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(content);
+    }
+
+    return outputStream.toByteArray();
+  }
+
+}
@@ -13,13 +13,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Cleanup;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.RepositoryProperties;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ShapeProperties;
@@ -31,6 +38,7 @@ import org.eclipse.rdf4j.repository.RepositoryResolver;
 import org.eclipse.rdf4j.repository.manager.LocalRepositoryManager;
 import org.eclipse.rdf4j.repository.sparql.config.SPARQLRepositoryConfig;
 import org.eclipse.rdf4j.rio.RDFParseException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +47,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.FileSystemUtils;
 
 @ExtendWith(MockitoExtension.class)
 class Rdf4jConfigurationTest {
@@ -55,6 +64,8 @@ class Rdf4jConfigurationTest {
 
   private CoreProperties coreProperties;
 
+  private Path snapshotDir;
+
   @BeforeEach
   void setUp() {
     ShapeProperties shapeProperties = new ShapeProperties();
@@ -66,6 +77,11 @@ class Rdf4jConfigurationTest {
     coreProperties = new CoreProperties();
   }
 
+  @AfterEach
+  void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(snapshotDir);
+  }
+
   @Test
   void configFactory_ReturnsConfigFactoryImpl_ForAnyCall() {
     // Act
@@ -182,6 +198,59 @@ class Rdf4jConfigurationTest {
     assertThat(repository.toString(), is("http://example/sparql"));
   }
 
+  @Test
+  void repositoryManager_ReusesSnapshot_ForUnchangedModel() throws IOException {
+    // Arrange
+    snapshotDir = Files.createTempDirectory("snapshot");
+    rdf4jProperties.getSnapshot()
+        .setDirectory(snapshotDir.toString());
+    Resource rdfResource = mockRdfResource("<http://foo> a <http://bar>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource});
+    rdf4jConfiguration.localRepositoryManager(coreProperties, rdf4jProperties, configFactory, resourceLoader)
+        .shutDown();
+
+    // Act
+    LocalRepositoryManager result =
+        rdf4jConfiguration.localRepositoryManager(coreProperties, rdf4jProperties, configFactory, resourceLoader);
+
+    // Assert
+    verify(rdfResource, times(3)).getInputStream();
+    try (Stream<Path> snapshotFiles = Files.list(snapshotDir)) {
+      assertThat(snapshotFiles.map(file -> file.getFileName()
+          .toString())
+          .collect(Collectors.toSet()), is(equalTo(ImmutableSet.of("local.brf", "local.sha256"))));
+    }
+    @Cleanup
+    RepositoryConnection con = result.getRepository(Rdf4jConfiguration.LOCAL_REPOSITORY_ID)
+        .getConnection();
+    assertThat(con.size(), is(equalTo(1L)));
+  }
+
+  @Test
+  void repositoryManager_RebuildsSnapshot_ForChangedModel() throws IOException {
+    // Arrange
+    snapshotDir = Files.createTempDirectory("snapshot");
+    rdf4jProperties.getSnapshot()
+        .setDirectory(snapshotDir.toString());
+    Resource rdfResource = mockRdfResource("<http://foo> a <http://bar>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {rdfResource});
+    rdf4jConfiguration.localRepositoryManager(coreProperties, rdf4jProperties, configFactory, resourceLoader)
+        .shutDown();
+
+    Resource changedResource = mockRdfResource("<http://foo> a <http://baz>, <http://qux>");
+    when(resourceLoader.getResources(anyString())).thenReturn(new Resource[] {changedResource});
+
+    // Act
+    LocalRepositoryManager result =
+        rdf4jConfiguration.localRepositoryManager(coreProperties, rdf4jProperties, configFactory, resourceLoader);
+
+    // Assert
+    @Cleanup
+    RepositoryConnection con = result.getRepository(Rdf4jConfiguration.LOCAL_REPOSITORY_ID)
+        .getConnection();
+    assertThat(con.size(), is(equalTo(2L)));
+  }
+
   @Test
   void nodeShapeRegistry_ReturnsRegistry_ForNoShapes() throws IOException {
     // Arrange
@@ -212,4 +281,12 @@ class Rdf4jConfigurationTest {
     assertThat(nodeShapeRegistry.get(Constants.BREWERY_SHAPE), is(notNullValue()));
   }
 
+  private static Resource mockRdfResource(String rdfContent) throws IOException {
+    Resource rdfResource = mock(Resource.class);
+    when(rdfResource.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(rdfContent.getBytes()));
+    when(rdfResource.getFilename()).thenReturn("foo.trig");
+    when(rdfResource.isReadable()).thenReturn(true);
+    return rdfResource;
+  }
+
 }
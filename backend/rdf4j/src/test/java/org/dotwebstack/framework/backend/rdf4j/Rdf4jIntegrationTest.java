@@ -29,6 +29,7 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import org.dotwebstack.framework.backend.rdf4j.query.QueryPlanCache;
 import org.dotwebstack.framework.test.TestApplication;
 import org.hamcrest.collection.IsMapContaining;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,12 @@ class Rdf4jIntegrationTest {
   @Autowired
   private GraphQL graphQL;
 
+  @Autowired
+  private QueryPlanCache queryPlanCache;
+
+  @Autowired
+  private RepositoryExecutors repositoryExecutors;
+
   @Test
   void graphqlQuery_ReturnsMap_ForObjectQueryField() {
     // Arrange
@@ -443,4 +450,78 @@ class Rdf4jIntegrationTest {
     assertThat(data, IsMapContaining.hasEntry(BREWERIES_FIELD,
         ImmutableList.of(ImmutableMap.of("name", "Heineken Nederland", "localName", "Heineken Niederlande"))));
   }
+
+  @Test
+  void graphqlQuery_ReturnsSameResult_ForFusedSortQuery() {
+    // Arrange
+    String arguments = "(sort: [{field: \"address.postalCode\", order: DESC}, {field: \"name\", order: ASC}])";
+    String selection = "{ identifier, name, address { postalCode } }";
+    String query = "{ breweries" + arguments + selection + " breweriesFused" + arguments + selection + " }";
+
+    // Act
+    ExecutionResult result = graphQL.execute(query);
+
+    // Assert
+    assertThat(result.getErrors()
+        .isEmpty(), is(true));
+    Map<String, Object> data = result.getData();
+
+    assertThat(data.get("breweriesFused"), is(equalTo(data.get(BREWERIES_FIELD))));
+  }
+
+  @Test
+  void graphqlQuery_ReturnsSameResult_ForFusedNestedQuery() {
+    // Arrange
+    String selection = "(name: \"Alfa Brouwerij\"){ name, beers { name, ingredients { name }}}";
+    String query = "{ breweries" + selection + " breweriesFused" + selection + " }";
+
+    // Act
+    ExecutionResult result = graphQL.execute(query);
+
+    // Assert
+    assertThat(result.getErrors()
+        .isEmpty(), is(true));
+    Map<String, Object> data = result.getData();
+
+    assertThat(data.get("breweriesFused"), is(equalTo(data.get(BREWERIES_FIELD))));
+  }
+
+  @Test
+  void graphqlQuery_ReusesQueryPlans_ForDifferentFilterValues() {
+    // Arrange
+    graphQL.execute("{ breweries(name: \"Alfa Brouwerij\") { name }}");
+    long hitCount = queryPlanCache.getHitCount();
+    String query = "{ breweries(name: \"Heineken Nederland\") { name }}";
+
+    // Act
+    ExecutionResult result = graphQL.execute(query);
+
+    // Assert
+    assertThat(result.getErrors()
+        .isEmpty(), is(true));
+    assertThat(queryPlanCache.getHitCount(), is(hitCount + 2));
+    assertThat(result.getData(), IsMapContaining.hasEntry(BREWERIES_FIELD,
+        ImmutableList.of(ImmutableMap.of(BREWERY_NAME_FIELD, "Heineken Nederland"))));
+  }
+
+  @Test
+  void graphqlQuery_ExecutesAliasesOnRepositoryExecutor_ForSiblingRootFields() {
+    // Arrange
+    long executionCount = repositoryExecutors.getExecutionCount(Rdf4jConfiguration.LOCAL_REPOSITORY_ID);
+    String query = "{ alfa: breweries(name: \"Alfa Brouwerij\") { name } "
+        + "heineken: breweries(name: \"Heineken Nederland\") { name }}";
+
+    // Act
+    ExecutionResult result = graphQL.execute(query);
+
+    // Assert
+    assertThat(result.getErrors()
+        .isEmpty(), is(true));
+    assertThat(repositoryExecutors.getExecutionCount(Rdf4jConfiguration.LOCAL_REPOSITORY_ID), is(executionCount + 2));
+    Map<String, Object> data = result.getData();
+    assertThat(data,
+        IsMapContaining.hasEntry("alfa", ImmutableList.of(ImmutableMap.of(BREWERY_NAME_FIELD, "Alfa Brouwerij"))));
+    assertThat(data, IsMapContaining.hasEntry("heineken",
+        ImmutableList.of(ImmutableMap.of(BREWERY_NAME_FIELD, "Heineken Nederland"))));
+  }
 }
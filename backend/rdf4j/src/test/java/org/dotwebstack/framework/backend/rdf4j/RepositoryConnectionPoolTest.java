@@ -0,0 +1,139 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.CUSTOM_REPOSITORY_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ConnectionPoolProperties;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RepositoryConnectionPoolTest {
+
+  private final Repository repository = new SailRepository(new MemoryStore());
+
+  private RepositoryConnectionPool connectionPool;
+
+  @BeforeEach
+  void setUp() {
+    ConnectionPoolProperties properties = new ConnectionPoolProperties();
+    properties.setMaxSize(1);
+    properties.setAcquireTimeout(10);
+    connectionPool = new RepositoryConnectionPool(repositoryId -> repository, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionPool.close();
+    repository.shutDown();
+  }
+
+  @Test
+  void getConnection_ReturnsSameConnection_WithinScope() {
+    // Arrange
+    Object scope = new Object();
+
+    // Act
+    RepositoryConnection first = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, scope);
+    RepositoryConnection second = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, scope);
+
+    // Assert
+    assertThat(second, is(sameInstance(first)));
+    assertThat(connectionPool.getActiveCount(), is(1));
+  }
+
+  @Test
+  void getConnection_LeasesOnce_ForConcurrentCallsWithinScope() throws Exception {
+    // Arrange
+    Object scope = new Object();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      List<Callable<RepositoryConnection>> calls =
+          Collections.nCopies(8, () -> connectionPool.getConnection(CUSTOM_REPOSITORY_ID, scope));
+
+      // Act
+      List<Future<RepositoryConnection>> connections = executor.invokeAll(calls);
+
+      // Assert
+      for (Future<RepositoryConnection> connection : connections) {
+        assertThat(connection.get(), is(sameInstance(connections.get(0)
+            .get())));
+      }
+      assertThat(connectionPool.getActiveCount(), is(1));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void close_ReleasesLeasedConnections() {
+    // Arrange
+    RepositoryConnection connection = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, new Object());
+
+    // Act
+    connectionPool.close();
+
+    // Assert
+    assertThat(connection.isOpen(), is(false));
+    assertThat(connectionPool.getActiveCount(), is(0));
+  }
+
+  @Test
+  void getConnection_ReusesConnection_AfterRelease() {
+    // Arrange
+    Object firstScope = new Object();
+    RepositoryConnection first = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, firstScope);
+    connectionPool.release(firstScope);
+
+    // Act
+    RepositoryConnection second = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, new Object());
+
+    // Assert
+    assertThat(second, is(sameInstance(first)));
+    assertThat(connectionPool.getAcquireCount(), is(2L));
+  }
+
+  @Test
+  void getConnection_ThrowsException_WhenPoolExhausted() {
+    // Arrange
+    connectionPool.getConnection(CUSTOM_REPOSITORY_ID, new Object());
+
+    // Act / Assert
+    assertThrows(DotWebStackRuntimeException.class,
+        () -> connectionPool.getConnection(CUSTOM_REPOSITORY_ID, new Object()));
+  }
+
+  @Test
+  void release_ReplacesClosedConnection_ForNextScope() {
+    // Arrange
+    Object firstScope = new Object();
+    RepositoryConnection first = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, firstScope);
+    first.close();
+    connectionPool.release(firstScope);
+
+    // Act
+    RepositoryConnection second = connectionPool.getConnection(CUSTOM_REPOSITORY_ID, new Object());
+
+    // Assert
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second.isOpen(), is(true));
+    assertThat(connectionPool.getActiveCount(), is(1));
+  }
+
+}
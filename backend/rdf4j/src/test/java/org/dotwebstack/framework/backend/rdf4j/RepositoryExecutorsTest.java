@@ -0,0 +1,110 @@
+package org.dotwebstack.framework.backend.rdf4j;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.CUSTOM_REPOSITORY_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ExecutorProperties;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RepositoryExecutorsTest {
+
+  private static final String OTHER_REPOSITORY_ID = "other";
+
+  private RepositoryExecutors repositoryExecutors;
+
+  @BeforeEach
+  void setUp() {
+    ExecutorProperties properties = new ExecutorProperties();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(1);
+    repositoryExecutors = new RepositoryExecutors(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repositoryExecutors.close();
+  }
+
+  @Test
+  void submit_CompletesFuture_WithTaskResult() throws Exception {
+    // Act
+    CompletableFuture<String> result = repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> "result");
+
+    // Assert
+    assertThat(result.get(), is("result"));
+    assertThat(repositoryExecutors.getExecutionCount(CUSTOM_REPOSITORY_ID), is(1L));
+    assertThat(repositoryExecutors.getExecutionCount(OTHER_REPOSITORY_ID), is(0L));
+  }
+
+  @Test
+  void submit_CompletesFutureWithOriginalException_WhenTaskFails() throws Exception {
+    // Arrange
+    IllegalArgumentException exception = new IllegalArgumentException();
+
+    // Act
+    CompletableFuture<String> result = repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> {
+      throw exception;
+    });
+
+    // Assert
+    ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+    assertThat(thrown.getCause(), is(sameInstance(exception)));
+  }
+
+  @Test
+  void submit_CompletesFutureWithOriginalError_WhenTaskThrowsError() throws Exception {
+    // Arrange
+    StackOverflowError error = new StackOverflowError();
+
+    // Act
+    CompletableFuture<String> result = repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> {
+      throw error;
+    });
+
+    // Assert
+    ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+    assertThat(thrown.getCause(), is(sameInstance(error)));
+    assertThat(repositoryExecutors.getExecutionCount(CUSTOM_REPOSITORY_ID), is(1L));
+  }
+
+  @Test
+  void submit_ThrowsException_WhenQueueIsFull() throws Exception {
+    // Arrange
+    CountDownLatch latch = new CountDownLatch(1);
+    final List<CompletableFuture<Object>> accepted =
+        List.of(repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> await(latch)),
+            repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> await(latch)));
+
+    // Act / Assert
+    assertThrows(DotWebStackRuntimeException.class,
+        () -> repositoryExecutors.submit(CUSTOM_REPOSITORY_ID, () -> await(latch)));
+    assertThat(repositoryExecutors.getRejectedCount(CUSTOM_REPOSITORY_ID), is(1L));
+    assertThat(repositoryExecutors.getRejectedCount(OTHER_REPOSITORY_ID), is(0L));
+    assertThat(repositoryExecutors.getQueueDepth(CUSTOM_REPOSITORY_ID), is(1));
+
+    latch.countDown();
+    for (CompletableFuture<Object> future : accepted) {
+      future.get();
+    }
+  }
+
+  private static Object await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,115 @@
+package org.dotwebstack.framework.backend.rdf4j.converters;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+import org.junit.jupiter.api.Test;
+
+class Rdf4jConverterRouterTest {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private final Rdf4jConverterRouter converterRouter = new Rdf4jConverterRouter(
+      ImmutableList.of(new BooleanConverter(), new IriConverter(), new LongConverter(), new UpperCaseConverter()));
+
+  @Test
+  void convert_UsesDatatypeConverter_ForTypedLiteral() {
+    // Act
+    Object result = converterRouter.convert(VF.createLiteral(42L));
+
+    // Assert
+    assertThat(result, is(42L));
+  }
+
+  @Test
+  void convert_UsesIriConverter_ForIri() {
+    // Arrange
+    IRI iri = VF.createIRI("http://www.brewery.com");
+
+    // Act
+    Object result = converterRouter.convert(iri);
+
+    // Assert
+    assertThat(result, is(iri));
+  }
+
+  @Test
+  void convert_UsesDynamicConverter_ForLanguageLiteral() {
+    // Act
+    Object result = converterRouter.convert(VF.createLiteral("brewery", "en"));
+
+    // Assert
+    assertThat(result, is("BREWERY"));
+  }
+
+  @Test
+  void convert_UsesDefaultConverter_ForUnsupportedLiteral() {
+    // Act
+    Object result = converterRouter.convert(VF.createLiteral("brewery"));
+
+    // Assert
+    assertThat(result, is("brewery"));
+  }
+
+  @Test
+  void convert_UsesDynamicConverter_WhenRegisteredBeforeDatatypeConverter() {
+    // Arrange
+    Rdf4jConverterRouter overridingRouter =
+        new Rdf4jConverterRouter(ImmutableList.of(new LongToStringConverter(), new LongConverter()));
+
+    // Act
+    Object result = overridingRouter.convert(VF.createLiteral(42L));
+
+    // Assert
+    assertThat(result, is("42"));
+  }
+
+  @Test
+  void convert_UsesDatatypeConverter_WhenRegisteredBeforeDynamicConverter() {
+    // Arrange
+    Rdf4jConverterRouter overridingRouter =
+        new Rdf4jConverterRouter(ImmutableList.of(new LongConverter(), new LongToStringConverter()));
+
+    // Act
+    Object result = overridingRouter.convert(VF.createLiteral(42L));
+
+    // Assert
+    assertThat(result, is(42L));
+  }
+
+  private static class UpperCaseConverter extends LiteralConverter<String> {
+
+    @Override
+    public boolean supportsLiteral(@NonNull Literal literal) {
+      return literal.getLanguage()
+          .isPresent();
+    }
+
+    @Override
+    public String convertLiteral(@NonNull Literal literal) {
+      return literal.stringValue()
+          .toUpperCase();
+    }
+  }
+
+  private static class LongToStringConverter extends LiteralConverter<String> {
+
+    @Override
+    public boolean supportsLiteral(@NonNull Literal literal) {
+      return XMLSchema.LONG.equals(literal.getDatatype());
+    }
+
+    @Override
+    public String convertLiteral(@NonNull Literal literal) {
+      return literal.stringValue();
+    }
+  }
+
+}
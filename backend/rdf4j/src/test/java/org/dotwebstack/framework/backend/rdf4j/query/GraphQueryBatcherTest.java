@@ -0,0 +1,266 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.CUSTOM_REPOSITORY_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ExecutorProperties;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryAdapter;
+import org.dotwebstack.framework.backend.rdf4j.RepositoryExecutors;
+import org.dotwebstack.framework.backend.rdf4j.query.GraphQueryBatcher.GraphLoader;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GraphQueryBatcherTest {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final IRI NAME = VF.createIRI("https://example.org/name");
+
+  private static final IRI ADDRESS = VF.createIRI("https://example.org/address");
+
+  private static final IRI BREWERY_A = VF.createIRI("https://example.org/brewery/a");
+
+  private static final IRI BREWERY_B = VF.createIRI("https://example.org/brewery/b");
+
+  private static final IRI FOUNDER = VF.createIRI("https://example.org/founder");
+
+  private static final Variable SUBJECT = SparqlBuilder.var("x0");
+
+  private static final Variable ADDRESS_VARIABLE = SparqlBuilder.var("x1");
+
+  private static final GraphQueryPlan GRAPH_QUERY_PLAN = new GraphQueryPlan("CONSTRUCT { } WHERE { }", SUBJECT,
+      List.of(createTemplate(SUBJECT, NAME, SparqlBuilder.var("x2")),
+          createTemplate(SUBJECT, ADDRESS, ADDRESS_VARIABLE),
+          createTemplate(ADDRESS_VARIABLE, NAME, SparqlBuilder.var("x3"))));
+
+  private static final IntConsumer IGNORE_ROWS = rowCount -> {
+  };
+
+  private final Rdf4jProperties rdf4jProperties = new Rdf4jProperties();
+
+  private final DataFetchingEnvironment environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+      .context("request")
+      .build();
+
+  @Mock
+  private RepositoryAdapter repositoryAdapter;
+
+  private final RepositoryExecutors repositoryExecutors = new RepositoryExecutors(new ExecutorProperties());
+
+  private GraphQueryBatcher batcher;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(repositoryAdapter.getCacheScope(CUSTOM_REPOSITORY_ID, environment))
+        .thenReturn("request");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (batcher != null) {
+      batcher.destroy();
+    }
+    repositoryExecutors.close();
+  }
+
+  @Test
+  void fetch_LoadsSubjectsDirectly_WhenDisabled() {
+    // Arrange
+    batcher = new GraphQueryBatcher(rdf4jProperties, repositoryExecutors);
+    List<List<IRI>> queries = new CopyOnWriteArrayList<>();
+
+    // Act
+    Model result = fetch(List.of(BREWERY_A), (scope, subjects, rowCounter) -> {
+      queries.add(subjects);
+      return createModel();
+    }, IGNORE_ROWS).join();
+
+    // Assert
+    assertThat(queries, is(List.of(List.of(BREWERY_A))));
+    assertThat(result.size(), is(4));
+  }
+
+  @Test
+  void fetch_CombinesConcurrentFetches_IntoOneQuery() throws Exception {
+    // Arrange
+    rdf4jProperties.getBatch()
+        .setEnabled(true);
+    rdf4jProperties.getBatch()
+        .setWindow(5000);
+    rdf4jProperties.getBatch()
+        .setMaxSubjects(2);
+    batcher = new GraphQueryBatcher(rdf4jProperties, repositoryExecutors);
+    List<List<IRI>> queries = new CopyOnWriteArrayList<>();
+    List<DataFetchingEnvironment> scopes = new CopyOnWriteArrayList<>();
+    GraphLoader loader = (scope, subjects, rowCounter) -> {
+      scopes.add(scope);
+      queries.add(subjects);
+      Model model = createModel();
+      rowCounter.accept(model.size());
+      return model;
+    };
+    AtomicInteger rowCountA = new AtomicInteger();
+    AtomicInteger rowCountB = new AtomicInteger();
+
+    // Act
+    CompletableFuture<Model> resultA = fetch(List.of(BREWERY_A), loader, rowCountA::addAndGet);
+    CompletableFuture<Model> resultB = fetch(List.of(BREWERY_B), loader, rowCountB::addAndGet);
+
+    // Assert
+    assertThat(resultA.get()
+        .filter(BREWERY_A, NAME, null)
+        .size(), is(1));
+    assertThat(resultA.get()
+        .filter(BREWERY_B, null, null)
+        .isEmpty(), is(true));
+    assertThat(resultB.get()
+        .filter(BREWERY_B, NAME, null)
+        .size(), is(1));
+    assertThat(queries.size(), is(1));
+    assertThat(queries.get(0)
+        .size(), is(2));
+    assertThat(batcher.getQueryCount(), is(1L));
+    assertThat(batcher.getFetchCount(), is(2L));
+    assertThat(rowCountA.get(), is(3));
+    assertThat(rowCountB.get(), is(1));
+    assertThat(scopes.get(0), is(not(sameInstance(environment))));
+    verify(repositoryAdapter).release(scopes.get(0));
+  }
+
+  @Test
+  void fetch_LoadsSeparately_ForDifferentCacheScopes() throws Exception {
+    // Arrange
+    rdf4jProperties.getBatch()
+        .setEnabled(true);
+    rdf4jProperties.getBatch()
+        .setWindow(10);
+    rdf4jProperties.getBatch()
+        .setMaxSubjects(100);
+    batcher = new GraphQueryBatcher(rdf4jProperties, repositoryExecutors);
+    DataFetchingEnvironment otherEnvironment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+        .context("other")
+        .build();
+    when(repositoryAdapter.getCacheScope(CUSTOM_REPOSITORY_ID, otherEnvironment)).thenReturn("other");
+    List<List<IRI>> queries = new CopyOnWriteArrayList<>();
+    GraphLoader loader = (scope, subjects, rowCounter) -> {
+      queries.add(subjects);
+      return createModel();
+    };
+
+    // Act
+    CompletableFuture<Model> resultA = fetch(List.of(BREWERY_A), loader, IGNORE_ROWS);
+    CompletableFuture<Model> resultB = batcher.fetch(repositoryAdapter, CUSTOM_REPOSITORY_ID, otherEnvironment,
+        GRAPH_QUERY_PLAN, List.of(BREWERY_B), loader, IGNORE_ROWS);
+    resultA.get(5, TimeUnit.SECONDS);
+    resultB.get(5, TimeUnit.SECONDS);
+
+    // Assert
+    assertThat(queries.size(), is(2));
+    assertThat(batcher.getQueryCount(), is(2L));
+  }
+
+  @Test
+  void fetch_LoadsBatch_WhenWindowElapses() {
+    // Arrange
+    rdf4jProperties.getBatch()
+        .setEnabled(true);
+    rdf4jProperties.getBatch()
+        .setWindow(10);
+    rdf4jProperties.getBatch()
+        .setMaxSubjects(100);
+    batcher = new GraphQueryBatcher(rdf4jProperties, repositoryExecutors);
+
+    // Act
+    AtomicInteger rowCount = new AtomicInteger();
+    Model result = fetch(List.of(BREWERY_A), (scope, subjects, rowCounter) -> {
+      rowCounter.accept(5);
+      return createModel();
+    }, rowCount::addAndGet).orTimeout(5, TimeUnit.SECONDS)
+        .join();
+
+    // Assert
+    assertThat(result.size(), is(4));
+    assertThat(rowCount.get(), is(5));
+    assertThat(batcher.getQueryCount(), is(1L));
+  }
+
+  @Test
+  void extract_FollowsConstructPatterns_FromSubjects() {
+    // Arrange
+    Model model = createModel();
+    model.add(BREWERY_A, FOUNDER, BREWERY_B);
+
+    // Act
+    Model result = GraphQueryBatcher.extract(model, GRAPH_QUERY_PLAN, List.of(BREWERY_A));
+
+    // Assert
+    assertThat(result.size(), is(3));
+    assertThat(result.filter(BREWERY_A, ADDRESS, null)
+        .size(), is(1));
+    assertThat(result.filter(BREWERY_B, null, null)
+        .isEmpty(), is(true));
+  }
+
+  @Test
+  void extract_FollowsNestedResources_ForPlanWithoutPatterns() {
+    // Act
+    Model result = GraphQueryBatcher.extract(createModel(), new GraphQueryPlan("CONSTRUCT { } WHERE { }", SUBJECT),
+        List.of(BREWERY_A));
+
+    // Assert
+    assertThat(result.size(), is(3));
+    assertThat(result.filter(BREWERY_A, ADDRESS, null)
+        .size(), is(1));
+  }
+
+  private CompletableFuture<Model> fetch(List<IRI> subjects, GraphLoader loader, IntConsumer rowCounter) {
+    return batcher.fetch(repositoryAdapter, CUSTOM_REPOSITORY_ID, environment, GRAPH_QUERY_PLAN, subjects, loader,
+        rowCounter);
+  }
+
+  private static TripleTemplate createTemplate(Variable subject, IRI predicate, Variable object) {
+    return TripleTemplate.builder()
+        .subject(subject)
+        .predicate(predicate)
+        .object(object)
+        .build();
+  }
+
+  private static Model createModel() {
+    Model model = new LinkedHashModel();
+    IRI address = VF.createIRI("https://example.org/address/a");
+    model.add(BREWERY_A, NAME, VF.createLiteral("Brewery A"));
+    model.add(BREWERY_A, ADDRESS, address);
+    model.add(address, NAME, VF.createLiteral("Street 1"));
+    model.add(BREWERY_B, NAME, VF.createLiteral("Brewery B"));
+    return model;
+  }
+}
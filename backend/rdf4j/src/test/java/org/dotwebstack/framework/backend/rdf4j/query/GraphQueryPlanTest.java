@@ -0,0 +1,57 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
+import org.junit.jupiter.api.Test;
+
+class GraphQueryPlanTest {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final String TEMPLATE = "CONSTRUCT { ?x ?p ?o . } WHERE { ?x ?p ?o . }";
+
+  private final GraphQueryPlan graphQueryPlan = new GraphQueryPlan(TEMPLATE, SparqlBuilder.var("x"));
+
+  private final IriCompactor iriCompactor =
+      new IriCompactor(ImmutableMap.of("https://example.org/", "ex", "https://example.org/brewery/", "brewery"));
+
+  @Test
+  void bind_writesPrefixedNames_forConfiguredNamespaces() {
+    // Act
+    String query = graphQueryPlan.bind(
+        ImmutableList.of(VF.createIRI("https://example.org/brewery/a"), VF.createIRI("https://example.org/beer_1")),
+        true, iriCompactor);
+
+    // Assert
+    assertThat(query,
+        is(String.format("PREFIX brewery: <https://example.org/brewery/>%n" + "PREFIX ex: <https://example.org/>%n"
+            + "CONSTRUCT { ?x ?p ?o . } WHERE {VALUES ?x {brewery:a ex:beer_1}  ?x ?p ?o . }")));
+  }
+
+  @Test
+  void bind_writesFullIris_forUnknownNamespacesAndUnsafeLocalNames() {
+    // Act
+    String query = graphQueryPlan.bind(ImmutableList.of(VF.createIRI("https://other.org/a"),
+        VF.createIRI("https://example.org/a/b"), VF.createIRI("https://example.org/a.")), true, iriCompactor);
+
+    // Assert
+    assertThat(query, is("CONSTRUCT { ?x ?p ?o . } WHERE {VALUES ?x {<https://other.org/a> "
+        + "<https://example.org/a/b> <https://example.org/a.>}  ?x ?p ?o . }"));
+  }
+
+  @Test
+  void bind_returnsTemplate_withoutValuesBlock() {
+    // Act
+    String query =
+        graphQueryPlan.bind(ImmutableList.of(VF.createIRI("https://example.org/brewery/a")), false, iriCompactor);
+
+    // Assert
+    assertThat(query, is(TEMPLATE));
+  }
+}
@@ -0,0 +1,58 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.junit.jupiter.api.Test;
+
+class QueryPlanCacheTest {
+
+  private final QueryPlanCache queryPlanCache = new QueryPlanCache(new Rdf4jProperties());
+
+  @Test
+  void get_ReturnsCachedPlan_ForEqualKey() {
+    // Arrange
+    Object plan = new Object();
+    queryPlanCache.get(Arrays.asList("field", 1), () -> plan);
+
+    // Act
+    Object result = queryPlanCache.get(Arrays.asList("field", 1), Object::new);
+
+    // Assert
+    assertThat(result, is(sameInstance(plan)));
+    assertThat(queryPlanCache.getHitCount(), is(1L));
+    assertThat(queryPlanCache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void get_CompilesPlan_ForDifferentKey() {
+    // Arrange
+    Object plan = new Object();
+    queryPlanCache.get(Arrays.asList("field", 1), () -> plan);
+
+    // Act
+    Object result = queryPlanCache.get(Arrays.asList("field", 2), Object::new);
+
+    // Assert
+    assertThat(result, is(not(sameInstance(plan))));
+    assertThat(queryPlanCache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void get_DoesNotCachePlan_WhenCompilationFails() {
+    // Arrange
+    List<Object> key = Arrays.asList("field", 1);
+
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class, () -> queryPlanCache.get(key, () -> {
+      throw new IllegalArgumentException();
+    }));
+    assertThat(queryPlanCache.get(key, () -> "plan"), is("plan"));
+  }
+}
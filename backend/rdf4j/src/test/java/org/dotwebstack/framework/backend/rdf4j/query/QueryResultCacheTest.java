@@ -0,0 +1,190 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.CUSTOM_REPOSITORY_ID;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class QueryResultCacheTest {
+
+  private static final String QUERY = "SELECT ?s WHERE { ?s ?p \"a  b\" }";
+
+  private static final String SCOPE = "scope";
+
+  private final Rdf4jProperties rdf4jProperties = new Rdf4jProperties();
+
+  private QueryResultCache queryResultCache;
+
+  @AfterEach
+  void tearDown() {
+    if (queryResultCache != null) {
+      queryResultCache.destroy();
+    }
+  }
+
+  @Test
+  void get_ReturnsCachedResult_WithinTtl() {
+    // Arrange
+    createCache(60000, 0);
+    AtomicInteger loads = new AtomicInteger();
+    queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet, loads::incrementAndGet,
+        value -> 1);
+
+    // Act
+    int result = queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet,
+        loads::incrementAndGet, value -> 1);
+
+    // Assert
+    assertThat(result, is(1));
+    assertThat(queryResultCache.getHitCount(), is(1L));
+  }
+
+  @Test
+  void get_LoadsResult_WhenDisabled() {
+    // Arrange
+    createCache(60000, 0);
+    rdf4jProperties.getResultCache()
+        .setEnabled(false);
+    AtomicInteger loads = new AtomicInteger();
+    queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet, loads::incrementAndGet,
+        value -> 1);
+
+    // Act
+    int result = queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet,
+        loads::incrementAndGet, value -> 1);
+
+    // Assert
+    assertThat(result, is(2));
+  }
+
+  @Test
+  void get_LoadsResult_WhenExpired() throws InterruptedException {
+    // Arrange
+    createCache(1, 0);
+    AtomicInteger loads = new AtomicInteger();
+    queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet, loads::incrementAndGet,
+        value -> 1);
+    Thread.sleep(10);
+
+    // Act
+    int result = queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet,
+        loads::incrementAndGet, value -> 1);
+
+    // Assert
+    assertThat(result, is(2));
+    assertThat(queryResultCache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void get_ReturnsStaleResultAndRefreshes_WithinStaleWindow() throws InterruptedException {
+    // Arrange
+    createCache(1, 60000);
+    queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, () -> "stale", () -> "stale", value -> 1);
+    Thread.sleep(10);
+
+    // Act
+    String result = queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, () -> "loaded", () -> "fresh", value -> 1);
+
+    // Assert
+    assertThat(result, is("stale"));
+    assertThat(queryResultCache.getStaleHitCount(), is(1L));
+
+    long deadline = System.currentTimeMillis() + 5000;
+    String refreshed = result;
+    while ("stale".equals(refreshed) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+      refreshed = queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, () -> "loaded", () -> "fresh", value -> 1);
+    }
+    assertThat(refreshed, is("fresh"));
+  }
+
+  @Test
+  void get_LoadsResult_ForOtherScope() {
+    // Arrange
+    createCache(60000, 0);
+    AtomicInteger loads = new AtomicInteger();
+    queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loads::incrementAndGet, loads::incrementAndGet,
+        value -> 1);
+
+    // Act
+    int result = queryResultCache.get(CUSTOM_REPOSITORY_ID, "other", QUERY, loads::incrementAndGet,
+        loads::incrementAndGet, value -> 1);
+
+    // Assert
+    assertThat(result, is(2));
+    assertThat(queryResultCache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void get_LoadsOnce_ForConcurrentMisses() throws Exception {
+    // Arrange
+    createCache(60000, 0);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<Integer> loader = () -> {
+      loading.countDown();
+      await(release);
+      return loads.incrementAndGet();
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      final Future<Integer> leader =
+          executor.submit(() -> queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loader, loader, value -> 1));
+      loading.await();
+
+      // Act
+      final Future<Integer> follower =
+          executor.submit(() -> queryResultCache.get(CUSTOM_REPOSITORY_ID, SCOPE, QUERY, loader, loader, value -> 1));
+      Thread.sleep(50);
+      release.countDown();
+
+      // Assert
+      assertThat(leader.get(5, TimeUnit.SECONDS), is(1));
+      assertThat(follower.get(5, TimeUnit.SECONDS), is(1));
+      assertThat(loads.get(), is(1));
+      assertThat(queryResultCache.getMissCount(), is(1L));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void normalize_CollapsesWhitespace_OutsideQuotedStrings() {
+    // Act
+    String result = QueryResultCache.normalize("  SELECT ?s\n  WHERE {  ?s ?p \"a  b\" }\n");
+
+    // Assert
+    assertThat(result, is(QUERY));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+    }
+  }
+
+  private void createCache(long ttl, long staleWhileRevalidate) {
+    rdf4jProperties.getResultCache()
+        .setEnabled(true);
+    rdf4jProperties.getResultCache()
+        .setTtl(ttl);
+    rdf4jProperties.getResultCache()
+        .setStaleWhileRevalidate(staleWhileRevalidate);
+    queryResultCache = new QueryResultCache(rdf4jProperties);
+  }
+}
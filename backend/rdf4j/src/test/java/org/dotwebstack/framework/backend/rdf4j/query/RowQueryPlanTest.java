@@ -0,0 +1,58 @@
+package org.dotwebstack.framework.backend.rdf4j.query;
+
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_EXAMPLE_1;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_NAME_EXAMPLE_1;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.SCHEMA_NAME;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.dotwebstack.framework.backend.rdf4j.ModelIndex;
+import org.dotwebstack.framework.backend.rdf4j.query.context.TripleTemplate;
+import org.eclipse.rdf4j.query.impl.IteratingTupleQueryResult;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.eclipse.rdf4j.sparqlbuilder.core.SparqlBuilder;
+import org.eclipse.rdf4j.sparqlbuilder.core.Variable;
+import org.junit.jupiter.api.Test;
+
+class RowQueryPlanTest {
+
+  private static final Variable SUBJECT = SparqlBuilder.var("x0");
+
+  private static final Variable NAME = SparqlBuilder.var("x1");
+
+  private final RowQueryPlan rowQueryPlan =
+      new RowQueryPlan(new GraphQueryPlan("SELECT ?x0 ?x1 WHERE { ?x0 ?p ?x1 . }", SUBJECT),
+          ImmutableList.of(TripleTemplate.builder()
+              .subject(SUBJECT)
+              .predicate(SCHEMA_NAME)
+              .object(NAME)
+              .build()));
+
+  @Test
+  void collect_AddsBoundTriples_ForEachRow() {
+    // Arrange
+    MapBindingSet boundRow = new MapBindingSet();
+    boundRow.addBinding("x0", BREWERY_EXAMPLE_1);
+    boundRow.addBinding("x1", BREWERY_NAME_EXAMPLE_1);
+
+    MapBindingSet unboundRow = new MapBindingSet();
+    unboundRow.addBinding("x0", BREWERY_EXAMPLE_1);
+
+    AtomicInteger rowCount = new AtomicInteger();
+
+    // Act
+    ModelIndex modelIndex = rowQueryPlan.collect(
+        new IteratingTupleQueryResult(ImmutableList.of("x0", "x1"), ImmutableList.of(boundRow, unboundRow)),
+        rowCount::addAndGet);
+
+    // Assert
+    assertThat(modelIndex.getProperties(BREWERY_EXAMPLE_1, SCHEMA_NAME),
+        is(equalTo(ImmutableSet.of(BREWERY_NAME_EXAMPLE_1))));
+    assertThat(modelIndex.size(), is(equalTo(1)));
+    assertThat(rowCount.get(), is(equalTo(2)));
+  }
+}
@@ -1,5 +1,11 @@
 package org.dotwebstack.framework.backend.rdf4j.query;
 
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_LABEL;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_NAME_FIELD;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.BREWERY_TARGET_CLASS;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.SHACL_LITERAL;
+import static org.dotwebstack.framework.backend.rdf4j.Constants.XSD_STRING;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -8,11 +14,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import graphql.Scalars;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLDirective;
 import graphql.schema.GraphQLObjectType;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.commons.jexl3.JexlBuilder;
@@ -26,6 +35,12 @@ import org.dotwebstack.framework.backend.rdf4j.serializers.SerializerRouter;
 import org.dotwebstack.framework.backend.rdf4j.serializers.ZonedDateTimeSerializer;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShape;
 import org.dotwebstack.framework.backend.rdf4j.shacl.NodeShapeRegistry;
+import org.dotwebstack.framework.backend.rdf4j.shacl.PropertyShape;
+import org.dotwebstack.framework.backend.rdf4j.shacl.propertypath.PredicatePath;
+import org.dotwebstack.framework.core.InvalidConfigurationException;
+import org.dotwebstack.framework.core.directives.DirectiveUtils;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
+import org.dotwebstack.framework.core.traversers.DirectiveContainerTuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,7 +77,10 @@ class SubjectQueryBuilderTest {
     when(this.environmentMock.getObjectType()).thenReturn(this.objectTypeMock);
     when(this.environmentMock.getNodeShapeRegistry()
         .get(any(GraphQLObjectType.class))).thenReturn(this.nodeShapeMock);
-    this.subjectQueryBuilder = SubjectQueryBuilder.create(this.environmentMock, this.jexlEngine,
+    this.subjectQueryBuilder = SubjectQueryBuilder.create(this.environmentMock, JexlRegistry.builder(this.jexlEngine)
+        .expression("(page - 1) * pageSize")
+        .expression("pageSize")
+        .build(),
         new SelectVerticeFactory(
             new SerializerRouter(ImmutableList.of(new LocalDateSerializer(), new ZonedDateTimeSerializer())),
             rdf4jProperties));
@@ -224,17 +242,76 @@ class SubjectQueryBuilderTest {
   void test_pagingParameters_withInvalidLimitAndOffsetExpressions() {
     // Arrange
     GraphQLDirective invalidSparqlDirective = getInvalidPagingDirective();
+    JexlRegistry.Builder builder = JexlRegistry.builder(this.jexlEngine);
 
-    Map<String, Object> arguments = new HashMap<>();
-    arguments.put("page", 1);
-    arguments.put("pageSize", 5);
+    // Act / Assert
+    assertThrows(InvalidConfigurationException.class, () -> builder.expression(
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_LIMIT, invalidSparqlDirective, String.class)));
+    assertThrows(InvalidConfigurationException.class, () -> builder.expression(
+        DirectiveUtils.getArgument(Rdf4jDirectives.SPARQL_ARG_OFFSET, invalidSparqlDirective, String.class)));
+  }
 
-    MapContext context = new MapContext(arguments);
+  @Test
+  void bind_SubstitutesParameters_WithoutRescanningValues() {
+    // Arrange
+    SubjectQueryPlan plan = new SubjectQueryPlan("SELECT ?s WHERE { ?s ?p \"urn:dotwebstack:parameter:0\" . "
+        + "?s ?q \"urn:dotwebstack:parameter:1\" . ?s ?r <urn:dotwebstack:parameter:2> }", ImmutableList.of());
+    List<DirectiveContainerTuple> filterMapping = ImmutableList.of(DirectiveContainerTuple.builder()
+        .value(ImmutableList.of("urn:dotwebstack:parameter:1", "a\" } ?s ?x \"", "https://example.org/a"))
+        .build());
+
+    // Act
+    String query = subjectQueryBuilder.bind(plan, Map.of(), GraphQLDirective.newDirective()
+        .name("sparql")
+        .build(), filterMapping);
+
+    // Assert
+    assertThat(query, is("SELECT ?s WHERE { ?s ?p \"urn:dotwebstack:parameter:1\" . "
+        + "?s ?q \"a\\\" } ?s ?x \\\"\" . ?s ?r <https://example.org/a> }"));
+  }
+
+  @Test
+  void bind_ThrowsException_ForInvalidIri() {
+    // Arrange
+    SubjectQueryPlan plan =
+        new SubjectQueryPlan("SELECT ?s WHERE { ?s ?p <urn:dotwebstack:parameter:0> }", ImmutableList.of());
+    List<DirectiveContainerTuple> filterMapping = ImmutableList.of(DirectiveContainerTuple.builder()
+        .value("https://example.org/a> } ?s ?x <b")
+        .build());
+    GraphQLDirective sparqlDirective = GraphQLDirective.newDirective()
+        .name("sparql")
+        .build();
 
     // Act / Assert
-    assertThrows(org.apache.commons.jexl3.JexlException.Parsing.class,
-        () -> this.subjectQueryBuilder.getLimitFromContext(context, invalidSparqlDirective));
-    assertThrows(org.apache.commons.jexl3.JexlException.Parsing.class,
-        () -> this.subjectQueryBuilder.getOffsetFromContext(context, invalidSparqlDirective));
+    assertThrows(IllegalArgumentException.class,
+        () -> subjectQueryBuilder.bind(plan, Map.of(), sparqlDirective, filterMapping));
+  }
+
+  @Test
+  void compile_AggregatesOrderKeys_ForSubSelect() {
+    // Arrange
+    PropertyShape breweryName = PropertyShape.builder()
+        .name(BREWERY_NAME_FIELD)
+        .path(PredicatePath.builder()
+            .iri(BREWERY_LABEL)
+            .build())
+        .nodeKind(SHACL_LITERAL)
+        .datatype(XSD_STRING)
+        .build();
+
+    when(nodeShapeMock.getPropertyShape(any())).thenReturn(breweryName);
+    when(nodeShapeMock.getTargetClasses()).thenReturn(Collections.singleton(BREWERY_TARGET_CLASS));
+    GraphQLDirective sparqlDirective = GraphQLDirective.newDirective()
+        .name("sparql")
+        .build();
+
+    // Act
+    SubjectQueryPlan plan = subjectQueryBuilder.compile(sparqlDirective, ImmutableList.of(),
+        ImmutableList.of(ImmutableMap.of("field", "name", "order", "DESC")), true);
+
+    // Assert
+    assertThat(plan.getTemplate(), containsString("( MAX( ?x0 ) AS ?o0 )"));
+    assertThat(plan.getTemplate(), containsString("GROUP BY ?s"));
+    assertThat(plan.getTemplate(), containsString("ORDER BY DESC( ?o0 )"));
   }
 }
@@ -17,14 +17,20 @@ import static org.dotwebstack.framework.backend.rdf4j.helper.IriHelper.stringify
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import graphql.schema.SelectedField;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties;
 import org.dotwebstack.framework.backend.rdf4j.serializers.LocalDateSerializer;
 import org.dotwebstack.framework.backend.rdf4j.serializers.SerializerRouter;
@@ -303,4 +309,131 @@ public class VerticeFactoryTest {
     assertThat(edge.getPredicate()
         .getQueryString(), is(stringify(BREWERY_LABEL)));
   }
+
+  @Test
+  void getTripleTemplates_IncludesTypeTemplate_ForConstructQuery() {
+    // Arrange
+    PropertyShape breweryName = PropertyShape.builder()
+        .name(BREWERY_NAME_FIELD)
+        .path(PredicatePath.builder()
+            .iri(BREWERY_LABEL)
+            .build())
+        .nodeKind(SHACL_LITERAL)
+        .datatype(XSD_STRING)
+        .build();
+
+    when(nodeShape.getPropertyShape(BREWERY_NAME_FIELD)).thenReturn(breweryName);
+    when(nodeShape.getTargetClasses()).thenReturn(Collections.singleton(BREWERY_TARGET_CLASS));
+    when(selectedField.getName()).thenReturn(BREWERY_NAME_FIELD);
+    when(selectedField.getQualifiedName()).thenReturn(BREWERY_NAME_FIELD);
+    SelectQuery query = Queries.SELECT();
+    Vertice vertice =
+        constructVerticeFactory.createRoot(query.var(), query, nodeShape, ImmutableList.of(selectedField));
+
+    // Act
+    Optional<List<TripleTemplate>> tripleTemplates = VerticeHelper.getTripleTemplates(vertice);
+
+    // Assert
+    assertThat(tripleTemplates.isPresent(), is(true));
+    assertThat(tripleTemplates.get()
+        .stream()
+        .map(TripleTemplate::getPredicate)
+        .collect(Collectors.toSet()), is(Set.of(RDF.TYPE, BREWERY_LABEL)));
+  }
+
+  @Test
+  void getTripleTemplates_ReturnsEmpty_ForPathPredicate() {
+    // Arrange
+    SelectQuery query = Queries.SELECT();
+    Vertice vertice = Vertice.builder()
+        .subject(query.var())
+        .edges(Lists.newArrayList(Edge.builder()
+            .predicate(() -> "^" + stringify(BREWERY_LABEL))
+            .object(Vertice.builder()
+                .subject(query.var())
+                .build())
+            .isVisible(true)
+            .build()))
+        .build();
+
+    // Act
+    Optional<List<TripleTemplate>> tripleTemplates = VerticeHelper.getTripleTemplates(vertice);
+
+    // Assert
+    assertThat(tripleTemplates.isPresent(), is(false));
+  }
+
+  @Test
+  void splitBranches_ReturnsBranchPerMultiValuedField_ForMultipleMultiValuedFields() {
+    // Arrange
+    SelectedField name = mockField("name", "name");
+    SelectedField beers = mockField("beers", "beers");
+    SelectedField beerName = mockField(null, "beers/name");
+    SelectedField owners = mockField("owners", "owners");
+
+    NodeShape breweryShape =
+        createNodeShape(ImmutableMap.of("name", 1, "beers", Integer.MAX_VALUE, "owners", Integer.MAX_VALUE));
+
+    // Act
+    Map<String, List<SelectedField>> branches =
+        constructVerticeFactory.splitBranches(breweryShape, ImmutableList.of(name, beers, beerName, owners));
+
+    // Assert
+    assertThat(branches,
+        is(ImmutableMap.of("beers", ImmutableList.of(name, beers, beerName), "owners", ImmutableList.of(owners))));
+  }
+
+  @Test
+  void splitBranches_ReturnsBranchPerSelectionNamedByField_ForAliasedMultiValuedFields() {
+    // Arrange
+    SelectedField beers = mockField("beers", "beers");
+    SelectedField beerName = mockField(null, "beers/name");
+    SelectedField otherBeers = mockField("beers", "otherBeers");
+    SelectedField otherBeerName = mockField(null, "otherBeers/name");
+
+    NodeShape breweryShape = createNodeShape(ImmutableMap.of("beers", Integer.MAX_VALUE));
+
+    // Act
+    Map<String, List<SelectedField>> branches = constructVerticeFactory.splitBranches(breweryShape,
+        ImmutableList.of(beers, beerName, otherBeers, otherBeerName));
+
+    // Assert
+    assertThat(branches, is(ImmutableMap.of("beers", ImmutableList.of(beers, beerName), "beers#2",
+        ImmutableList.of(otherBeers, otherBeerName))));
+  }
+
+  @Test
+  void splitBranches_ReturnsSingleBranch_ForSingleMultiValuedField() {
+    // Arrange
+    SelectedField name = mockField("name", "name");
+    SelectedField beers = mockField("beers", "beers");
+
+    NodeShape breweryShape = createNodeShape(ImmutableMap.of("name", 1, "beers", Integer.MAX_VALUE));
+
+    // Act
+    Map<String, List<SelectedField>> branches =
+        constructVerticeFactory.splitBranches(breweryShape, ImmutableList.of(name, beers));
+
+    // Assert
+    assertThat(branches, is(ImmutableMap.of(ConstructVerticeFactory.DEFAULT_BRANCH, ImmutableList.of(name, beers))));
+  }
+
+  private static NodeShape createNodeShape(Map<String, Integer> maxCounts) {
+    return NodeShape.builder()
+        .propertyShapes(maxCounts.entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> PropertyShape.builder()
+                .maxCount(entry.getValue())
+                .build())))
+        .build();
+  }
+
+  private static SelectedField mockField(String name, String qualifiedName) {
+    SelectedField field = mock(SelectedField.class);
+    if (name != null) {
+      when(field.getName()).thenReturn(name);
+    }
+    when(field.getQualifiedName()).thenReturn(qualifiedName);
+    return field;
+  }
 }
@@ -0,0 +1,171 @@
+package org.dotwebstack.framework.backend.rdf4j.reactive;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.ReactiveProperties;
+import org.dotwebstack.framework.backend.rdf4j.Rdf4jProperties.RepositoryProperties;
+import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+class ReactiveSparqlRepositoryAdapterTest {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final String SELECT_RESULT = "{\"head\":{\"vars\":[\"s\"]},\"results\":{\"bindings\":["
+      + "{\"s\":{\"type\":\"uri\",\"value\":\"https://example.org/brewery/a\"}},"
+      + "{\"s\":{\"type\":\"uri\",\"value\":\"https://example.org/brewery/b\"}}]}}";
+
+  private static final String CONSTRUCT_RESULT = "<https://example.org/brewery/a> <https://example.org/name> "
+      + "\"Brouwerij A\"@nl .\n" + "<https://example.org/brewery/a> <https://example.org/founded> "
+      + "\"1923\"^^<http://www.w3.org/2001/XMLSchema#gYear> .\n";
+
+  private final AtomicReference<String> receivedQuery = new AtomicReference<>();
+
+  private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+  private DisposableServer server;
+
+  private ReactiveSparqlRepositoryAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    server = HttpServer.create()
+        .port(0)
+        .route(routes -> routes.post("/sparql", (request, response) -> {
+          clientAddresses.add(request.remoteAddress());
+          String accept = request.requestHeaders()
+              .get("Accept");
+
+          return response.sendString(request.receive()
+              .aggregate()
+              .asString()
+              .map(query -> {
+                receivedQuery.set(query);
+                return accept.contains("json") ? SELECT_RESULT : CONSTRUCT_RESULT;
+              }));
+        })
+            .post("/broken", (request, response) -> response.status(500)
+                .sendString(Mono.just("Endpoint failure")))
+            .post("/slow", (request, response) -> response.sendString(Mono.delay(Duration.ofSeconds(5))
+                .map(tick -> SELECT_RESULT))))
+        .bindNow();
+
+    ReactiveProperties reactiveProperties = new ReactiveProperties();
+    reactiveProperties.setReadTimeout(200);
+    WebClient webClient = WebClient.builder()
+        .clientConnector(ReactiveSparqlRepositoryAdapter.createConnector(reactiveProperties))
+        .build();
+
+    adapter = new ReactiveSparqlRepositoryAdapter(webClient, Map.of("remote", createRepository("/sparql"), "broken",
+        createRepository("/broken"), "slow", createRepository("/slow")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.disposeNow();
+  }
+
+  @Test
+  void evaluateTupleQuery_returnsBindings_fromEndpoint() {
+    // Act
+    List<BindingSet> bindings = adapter.evaluateTupleQuery("remote", "SELECT ?s WHERE { ?s ?p ?o }")
+        .collectList()
+        .block();
+
+    // Assert
+    assertThat(receivedQuery.get(), is(equalTo("SELECT ?s WHERE { ?s ?p ?o }")));
+    assertThat(bindings.size(), is(equalTo(2)));
+    assertThat(bindings.get(1)
+        .getValue("s"), is(equalTo(VF.createIRI("https://example.org/brewery/b"))));
+  }
+
+  @Test
+  void evaluateGraphQuery_returnsStatements_fromEndpoint() {
+    // Act
+    List<Statement> statements = adapter.evaluateGraphQuery("remote", "CONSTRUCT { ?s ?p ?o } WHERE { ?s ?p ?o }")
+        .collectList()
+        .block();
+
+    // Assert
+    assertThat(statements.size(), is(equalTo(2)));
+    assertThat(statements.get(0)
+        .getObject(), is(equalTo(VF.createLiteral("Brouwerij A", "nl"))));
+    assertThat(statements.get(1)
+        .getObject(), is(equalTo(VF.createLiteral("1923", VF.createIRI("http://www.w3.org/2001/XMLSchema#gYear")))));
+  }
+
+  @Test
+  void evaluateTupleQuery_throwsException_forErrorResponse() {
+    // Act & Assert
+    DotWebStackRuntimeException exception = assertThrows(DotWebStackRuntimeException.class,
+        () -> adapter.evaluateTupleQuery("broken", "SELECT ?s WHERE { ?s ?p ?o }")
+            .collectList()
+            .block());
+
+    assertThat(exception.getMessage(),
+        startsWith("SPARQL endpoint of repository 'broken' responded with status 500: Endpoint failure"));
+  }
+
+  @Test
+  void evaluateTupleQuery_throwsException_whenEndpointExceedsReadTimeout() {
+    // Act & Assert
+    assertThrows(RuntimeException.class, () -> adapter.evaluateTupleQuery("slow", "SELECT ?s WHERE { ?s ?p ?o }")
+        .collectList()
+        .block(Duration.ofSeconds(3)));
+  }
+
+  @Test
+  void evaluateTupleQuery_reusesConnection_whenIdleLongerThanReadTimeout() throws InterruptedException {
+    // Arrange
+    adapter.evaluateTupleQuery("remote", "SELECT ?s WHERE { ?s ?p ?o }")
+        .collectList()
+        .block(Duration.ofSeconds(3));
+    Thread.sleep(500);
+
+    // Act
+    List<BindingSet> bindingSets = adapter.evaluateTupleQuery("remote", "SELECT ?s WHERE { ?s ?p ?o }")
+        .collectList()
+        .block(Duration.ofSeconds(3));
+
+    // Assert
+    assertThat(bindingSets.size(), is(equalTo(2)));
+    assertThat(clientAddresses.size(), is(equalTo(1)));
+  }
+
+  @Test
+  void supports_returnsTrue_forReactiveRepositoriesOnly() {
+    // Assert
+    assertThat(adapter.supports("remote"), is(equalTo(true)));
+    assertThat(adapter.supports("local"), is(equalTo(false)));
+  }
+
+  private RepositoryProperties createRepository(String path) {
+    RepositoryProperties repository = new RepositoryProperties();
+    repository.setType(ReactiveSparqlRepositoryAdapter.SPARQL_REACTIVE_REPOSITORY_TYPE);
+    repository
+        .setArgs(Map.<String, Object>of(ReactiveSparqlRepositoryAdapter.SPARQL_REACTIVE_REPOSITORY_ARG_ENDPOINT_URL,
+            "http://localhost:" + server.port() + path));
+    return repository;
+  }
+}
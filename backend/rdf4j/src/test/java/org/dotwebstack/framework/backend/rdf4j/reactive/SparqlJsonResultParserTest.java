@@ -0,0 +1,61 @@
+package org.dotwebstack.framework.backend.rdf4j.reactive;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class SparqlJsonResultParserTest {
+
+  private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+  private static final String RESULT = "{\"head\":{\"vars\":[\"s\",\"name\"]},\"results\":{\"bindings\":["
+      + "{\"s\":{\"type\":\"uri\",\"value\":\"https://example.org/a\"},"
+      + "\"name\":{\"type\":\"literal\",\"xml:lang\":\"nl\",\"value\":\"Brouwerij Ä\"}},"
+      + "{\"s\":{\"type\":\"bnode\",\"value\":\"b0\"}}]}}";
+
+  private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+  @Test
+  void parse_returnsBindings_forResultSplitOverBuffers() {
+    // Arrange
+    byte[] bytes = RESULT.getBytes(StandardCharsets.UTF_8);
+    Flux<DataBuffer> body = Flux.range(0, bytes.length)
+        .map(index -> bufferFactory.wrap(new byte[] {bytes[index]}));
+
+    // Act
+    List<BindingSet> bindings = SparqlJsonResultParser.parse(new JsonFactory(), body)
+        .collectList()
+        .block();
+
+    // Assert
+    assertThat(bindings.size(), is(equalTo(2)));
+    assertThat(bindings.get(0)
+        .getValue("name"), is(equalTo(VF.createLiteral("Brouwerij Ä", "nl"))));
+    assertThat(bindings.get(1)
+        .getValue("s"), is(equalTo(VF.createBNode("b0"))));
+  }
+
+  @Test
+  void parse_throwsException_forTruncatedResult() {
+    // Arrange
+    Flux<DataBuffer> body = Flux.just(bufferFactory.wrap(RESULT.substring(0, 40)
+        .getBytes(StandardCharsets.UTF_8)));
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> SparqlJsonResultParser.parse(new JsonFactory(), body)
+        .collectList()
+        .block());
+  }
+}
@@ -18,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.dotwebstack.framework.core.jexl.JexlFunction;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
+import org.dotwebstack.framework.core.jexl.JexlSourceProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -55,8 +57,14 @@ public class CoreConfiguration {
   }
 
   @Bean
-  public GraphQL graphql(@NonNull GraphQLSchema graphqlSchema) {
+  public PreparsedDocumentCache preparsedDocumentCache(@NonNull CoreProperties coreProperties) {
+    return new PreparsedDocumentCache(coreProperties.getDocumentCacheSize());
+  }
+
+  @Bean
+  public GraphQL graphql(@NonNull GraphQLSchema graphqlSchema, @NonNull PreparsedDocumentCache preparsedDocumentCache) {
     return GraphQL.newGraphQL(graphqlSchema)
+        .preparsedDocumentProvider(preparsedDocumentCache)
         .build();
   }
 
@@ -70,4 +78,18 @@ public class CoreConfiguration {
         .strict(true)
         .create();
   }
+
+  @Bean
+  public JexlRegistry jexlRegistry(JexlEngine jexlEngine, List<JexlSourceProvider> jexlSourceProviders) {
+    JexlRegistry.Builder builder = JexlRegistry.builder(jexlEngine);
+
+    jexlSourceProviders.forEach(provider -> {
+      provider.getExpressions()
+          .forEach(builder::expression);
+      provider.getScripts()
+          .forEach(builder::script);
+    });
+
+    return builder.build();
+  }
 }
@@ -25,4 +25,6 @@ public class CoreProperties {
   @NonNull
   private URI resourcePath = URI.create(CLASSPATH_PREFIX + CONFIG_PATH);
 
+  private long documentCacheSize = 1000;
+
 }
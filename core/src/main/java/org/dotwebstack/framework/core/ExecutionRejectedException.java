@@ -0,0 +1,16 @@
+package org.dotwebstack.framework.core;
+
+import lombok.NonNull;
+
+public class ExecutionRejectedException extends DotWebStackRuntimeException {
+
+  private static final long serialVersionUID = 3190841946577201624L;
+
+  public ExecutionRejectedException(@NonNull String message, Object... arguments) {
+    super(message, arguments);
+  }
+
+  public ExecutionRejectedException(@NonNull String message, Throwable cause, Object... arguments) {
+    super(message, cause, arguments);
+  }
+}
@@ -0,0 +1,65 @@
+package org.dotwebstack.framework.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Keeps parsed and validated documents by query text. Requests built from the same operation and
+ * expand combination share the same text, so parsing and validation only happen on a miss.
+ */
+@Slf4j
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+
+  private final Cache<String, PreparsedDocumentEntry> documents;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  public PreparsedDocumentCache(long maximumSize) {
+    this.documents = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  @Override
+  public PreparsedDocumentEntry getDocument(@NonNull ExecutionInput executionInput,
+      @NonNull Function<ExecutionInput, PreparsedDocumentEntry> computeFunction) {
+    String query = executionInput.getQuery();
+    PreparsedDocumentEntry document = documents.getIfPresent(query);
+
+    if (document != null) {
+      hitCount.incrementAndGet();
+      return document;
+    }
+
+    missCount.incrementAndGet();
+    document = computeFunction.apply(executionInput);
+    documents.put(query, document);
+
+    LOG.debug("Parsed GraphQL document (hit rate {})", getHitRate());
+
+    return document;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public double getHitRate() {
+    long hits = hitCount.get();
+    long requests = hits + missCount.get();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+}
@@ -4,8 +4,11 @@ import static graphql.schema.DataFetchingEnvironmentImpl.newDataFetchingEnvironm
 
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.dotwebstack.framework.core.helpers.ExceptionHelper;
 import org.springframework.stereotype.Component;
@@ -15,12 +18,28 @@ public class DataFetcherRouter implements DataFetcher<Object> {
 
   private final Set<CoreDataFetcher<Object>> dataFetchers;
 
+  private final Map<GraphQLFieldDefinition, Map<Class<?>, DataFetcher<Object>>> resolvedDataFetchers =
+      new ConcurrentHashMap<>();
+
   public DataFetcherRouter(final Set<CoreDataFetcher<Object>> dataFetchers) {
     this.dataFetchers = dataFetchers;
   }
 
+  /*
+   * The source/delegate chain is resolved once per field definition and source class, so data
+   * fetchers are expected to base their support on those only.
+   */
   @Override
   public Object get(DataFetchingEnvironment environment) throws Exception {
+    Object source = environment.getSource();
+    Class<?> sourceClass = source != null ? source.getClass() : Void.class;
+
+    return resolvedDataFetchers.computeIfAbsent(environment.getFieldDefinition(), key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(sourceClass, key -> resolveDataFetcher(environment))
+        .get(environment);
+  }
+
+  private DataFetcher<Object> resolveDataFetcher(DataFetchingEnvironment environment) {
     CoreDataFetcher<Object> sourceDataFetcher =
         findSupportedDataFetcher(environment, DataFetcherType.SOURCE).orElseThrow(() -> ExceptionHelper
             .illegalArgumentException("No source data fetcher is available for the given environment"));
@@ -29,14 +48,15 @@ public class DataFetcherRouter implements DataFetcher<Object> {
         findSupportedDataFetcher(environment, DataFetcherType.DELEGATE);
 
     if (delegateDataFetcher.isPresent()) {
-      DataFetchingEnvironment newEnvironment =
-          newDataFetchingEnvironment(environment).localContext((Supplier) () -> sourceDataFetcher)
-              .build();
-      return delegateDataFetcher.get()
-          .get(newEnvironment);
+      CoreDataFetcher<Object> delegate = delegateDataFetcher.get();
+      Supplier<DataFetcher<Object>> sourceSupplier = () -> sourceDataFetcher;
+
+      return delegateEnvironment -> delegate
+          .get(newDataFetchingEnvironment(delegateEnvironment).localContext(sourceSupplier)
+              .build());
     }
 
-    return sourceDataFetcher.get(environment);
+    return sourceDataFetcher;
   }
 
   private Optional<CoreDataFetcher<Object>> findSupportedDataFetcher(DataFetchingEnvironment environment,
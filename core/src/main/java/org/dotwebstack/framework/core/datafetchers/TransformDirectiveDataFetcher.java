@@ -7,19 +7,18 @@ import graphql.schema.GraphQLTypeUtil;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
-import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.MapContext;
 import org.dotwebstack.framework.core.directives.CoreDirectives;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.springframework.stereotype.Component;
 
 @Component
 public class TransformDirectiveDataFetcher extends DelegateDataFetcher {
 
-  private final JexlEngine jexlEngine;
+  private final JexlRegistry jexlRegistry;
 
-  public TransformDirectiveDataFetcher(final JexlEngine jexlEngine) {
-    this.jexlEngine = jexlEngine;
+  public TransformDirectiveDataFetcher(final JexlRegistry jexlRegistry) {
+    this.jexlRegistry = jexlRegistry;
   }
 
   @Override
@@ -43,15 +42,15 @@ public class TransformDirectiveDataFetcher extends DelegateDataFetcher {
       return null;
     }
 
-    JexlExpression expression = getJexlExpression(fieldDefinition);
+    String expression = getJexlExpression(fieldDefinition);
 
     if (isListType) {
       return ((Collection<?>) value).stream()
-          .map(listItem -> expression.evaluate(createContext(environment, listItem)))
+          .map(listItem -> jexlRegistry.evaluateExpression(expression, createContext(environment, listItem)))
           .collect(Collectors.toList());
     }
 
-    return expression.evaluate(createContext(environment, value));
+    return jexlRegistry.evaluateExpression(expression, createContext(environment, value));
   }
 
   private static JexlContext createContext(DataFetchingEnvironment environment, Object value) {
@@ -59,10 +58,10 @@ public class TransformDirectiveDataFetcher extends DelegateDataFetcher {
         .getName(), value));
   }
 
-  private JexlExpression getJexlExpression(GraphQLFieldDefinition fieldDefinition) {
-    return jexlEngine.createExpression(fieldDefinition.getDirective(CoreDirectives.TRANSFORM_NAME)
+  private static String getJexlExpression(GraphQLFieldDefinition fieldDefinition) {
+    return fieldDefinition.getDirective(CoreDirectives.TRANSFORM_NAME)
         .getArgument(CoreDirectives.TRANSFORM_ARG_EXPR)
         .getValue()
-        .toString());
+        .toString();
   }
 }
@@ -1,7 +1,18 @@
 package org.dotwebstack.framework.core.directives;
 
+import graphql.language.Argument;
+import graphql.language.FieldDefinition;
+import graphql.language.InterfaceTypeDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.StringValue;
+import graphql.language.TypeDefinition;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLDirective;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 
@@ -28,4 +39,52 @@ public final class DirectiveUtils {
       return clazz.cast(argValue);
     }
   }
+
+  /*
+   * Returns the string values given to the argument of the directive on any field definition of the
+   * object and interface types in the registry, including their extensions. This allows reading
+   * directive arguments before the schema is built.
+   */
+  @SuppressWarnings("rawtypes")
+  public static List<String> getFieldArguments(@NonNull TypeDefinitionRegistry registry, @NonNull String directiveName,
+      @NonNull String argName) {
+    return Stream.<Stream<? extends TypeDefinition>>of(registry.types()
+        .values()
+        .stream(),
+        registry.objectTypeExtensions()
+            .values()
+            .stream()
+            .flatMap(List::stream),
+        registry.interfaceTypeExtensions()
+            .values()
+            .stream()
+            .flatMap(List::stream))
+        .flatMap(types -> types)
+        .flatMap(DirectiveUtils::getFieldDefinitions)
+        .flatMap(field -> field.getDirectives()
+            .stream())
+        .filter(directive -> directiveName.equals(directive.getName()))
+        .map(directive -> directive.getArgument(argName))
+        .filter(Objects::nonNull)
+        .map(Argument::getValue)
+        .filter(StringValue.class::isInstance)
+        .map(value -> ((StringValue) value).getValue())
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Stream<FieldDefinition> getFieldDefinitions(TypeDefinition type) {
+    if (type instanceof ObjectTypeDefinition) {
+      return ((ObjectTypeDefinition) type).getFieldDefinitions()
+          .stream();
+    }
+
+    if (type instanceof InterfaceTypeDefinition) {
+      return ((InterfaceTypeDefinition) type).getFieldDefinitions()
+          .stream();
+    }
+
+    return Stream.empty();
+  }
 }
@@ -0,0 +1,23 @@
+package org.dotwebstack.framework.core.directives;
+
+import graphql.schema.idl.TypeDefinitionRegistry;
+import java.util.Collection;
+import lombok.NonNull;
+import org.dotwebstack.framework.core.jexl.JexlSourceProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransformExpressionProvider implements JexlSourceProvider {
+
+  private final TypeDefinitionRegistry typeDefinitionRegistry;
+
+  public TransformExpressionProvider(@NonNull TypeDefinitionRegistry typeDefinitionRegistry) {
+    this.typeDefinitionRegistry = typeDefinitionRegistry;
+  }
+
+  @Override
+  public Collection<String> getExpressions() {
+    return DirectiveUtils.getFieldArguments(typeDefinitionRegistry, CoreDirectives.TRANSFORM_NAME,
+        CoreDirectives.TRANSFORM_ARG_EXPR);
+  }
+}
@@ -2,6 +2,7 @@ package org.dotwebstack.framework.core.helpers;
 
 import java.util.MissingFormatArgumentException;
 import org.dotwebstack.framework.core.DotWebStackRuntimeException;
+import org.dotwebstack.framework.core.ExecutionRejectedException;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 
 public class ExceptionHelper {
@@ -45,4 +46,8 @@ public class ExceptionHelper {
   public static InvalidConfigurationException invalidConfigurationException(String message, Object... arguments) {
     return new InvalidConfigurationException(formatMessage(message, arguments), findCause(arguments));
   }
+
+  public static ExecutionRejectedException executionRejectedException(String message, Object... arguments) {
+    return new ExecutionRejectedException(formatMessage(message, arguments), findCause(arguments));
+  }
 }
@@ -7,22 +7,18 @@ import graphql.schema.GraphQLDirective;
 import java.util.Optional;
 import lombok.NonNull;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.JexlEngine;
-import org.apache.commons.jexl3.JexlExpression;
-import org.apache.commons.jexl3.JexlScript;
 import org.dotwebstack.framework.core.directives.DirectiveUtils;
 
 public class JexlHelper {
 
-  private final JexlEngine engine;
+  private final JexlRegistry registry;
 
-  public JexlHelper(@NonNull JexlEngine engine) {
-    this.engine = engine;
+  public JexlHelper(@NonNull JexlRegistry registry) {
+    this.registry = registry;
   }
 
   public <T> Optional<T> evaluateScript(String scriptString, JexlContext context, Class<T> clazz) {
-    JexlScript script = this.engine.createScript(scriptString);
-    Object evaluated = script.execute(context);
+    Object evaluated = this.registry.executeScript(scriptString, context);
     if (evaluated == null) {
       return Optional.empty();
     } else if (!clazz.isInstance(evaluated)) {
@@ -34,8 +30,7 @@ public class JexlHelper {
   }
 
   public <T> Optional<T> evaluateExpression(String expressionString, JexlContext context, Class<T> clazz) {
-    JexlExpression expression = this.engine.createExpression(expressionString);
-    Object evaluated = expression.evaluate(context);
+    Object evaluated = this.registry.evaluateExpression(expressionString, context);
     if (evaluated == null) {
       return Optional.empty();
     } else if (!clazz.isInstance(evaluated)) {
@@ -0,0 +1,153 @@
+package org.dotwebstack.framework.core.jexl;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+
+/*
+ * Holds the compiled form of every JEXL expression and script found in the configuration, keyed by
+ * source. The registry is built once at startup, so syntax errors fail the boot and evaluation
+ * never parses. Evaluating a source that was not registered is a programming error.
+ */
+@Slf4j
+public final class JexlRegistry {
+
+  private final Map<String, Compiled<JexlExpression>> expressions;
+
+  private final Map<String, Compiled<JexlScript>> scripts;
+
+  private JexlRegistry(Map<String, Compiled<JexlExpression>> expressions, Map<String, Compiled<JexlScript>> scripts) {
+    this.expressions = Map.copyOf(expressions);
+    this.scripts = Map.copyOf(scripts);
+  }
+
+  public static Builder builder(@NonNull JexlEngine engine) {
+    return new Builder(engine);
+  }
+
+  public boolean containsScript(@NonNull String source) {
+    return scripts.containsKey(source);
+  }
+
+  public Object evaluateExpression(@NonNull String source, JexlContext context) {
+    Compiled<JexlExpression> compiled = get(expressions, source);
+    long start = System.nanoTime();
+
+    try {
+      return compiled.getCompiled()
+          .evaluate(context);
+    } finally {
+      compiled.record(System.nanoTime() - start);
+    }
+  }
+
+  public Object executeScript(@NonNull String source, JexlContext context) {
+    Compiled<JexlScript> compiled = get(scripts, source);
+    long start = System.nanoTime();
+
+    try {
+      return compiled.getCompiled()
+          .execute(context);
+    } finally {
+      compiled.record(System.nanoTime() - start);
+    }
+  }
+
+  public long getEvaluationCount(@NonNull String source) {
+    Compiled<?> compiled = find(source);
+    return compiled != null ? compiled.evaluationCount.get() : 0;
+  }
+
+  public long getEvaluationTime(@NonNull String source, @NonNull TimeUnit unit) {
+    Compiled<?> compiled = find(source);
+    return compiled != null ? unit.convert(compiled.evaluationTimeNanos.get(), TimeUnit.NANOSECONDS) : 0;
+  }
+
+  private Compiled<?> find(String source) {
+    Compiled<?> compiled = expressions.get(source);
+    return compiled != null ? compiled : scripts.get(source);
+  }
+
+  private static <T> Compiled<T> get(Map<String, Compiled<T>> registry, String source) {
+    Compiled<T> compiled = registry.get(source);
+
+    if (compiled == null) {
+      throw illegalArgumentException("JEXL source '{}' was not registered at startup.", source);
+    }
+
+    return compiled;
+  }
+
+  public static final class Builder {
+
+    private final JexlEngine engine;
+
+    private final Map<String, Compiled<JexlExpression>> expressions = new HashMap<>();
+
+    private final Map<String, Compiled<JexlScript>> scripts = new HashMap<>();
+
+    private Builder(JexlEngine engine) {
+      this.engine = engine;
+    }
+
+    public Builder expression(@NonNull String source) {
+      compile(source, expressions, engine::createExpression);
+      return this;
+    }
+
+    public Builder script(@NonNull String source) {
+      compile(source, scripts, engine::createScript);
+      return this;
+    }
+
+    public JexlRegistry build() {
+      return new JexlRegistry(expressions, scripts);
+    }
+
+    private static <T> void compile(String source, Map<String, Compiled<T>> registry, Function<String, T> compiler) {
+      registry.computeIfAbsent(source, key -> {
+        try {
+          LOG.debug("Compiling JEXL source '{}'", key);
+          return new Compiled<>(compiler.apply(key));
+        } catch (JexlException e) {
+          throw invalidConfigurationException("Invalid JEXL source '{}'.", key, e);
+        }
+      });
+    }
+  }
+
+  private static final class Compiled<T> {
+
+    private final T compiled;
+
+    private final AtomicLong evaluationCount = new AtomicLong();
+
+    private final AtomicLong evaluationTimeNanos = new AtomicLong();
+
+    private Compiled(T compiled) {
+      this.compiled = compiled;
+    }
+
+    private T getCompiled() {
+      return compiled;
+    }
+
+    private void record(long duration) {
+      evaluationCount.incrementAndGet();
+      evaluationTimeNanos.addAndGet(duration);
+    }
+  }
+
+}
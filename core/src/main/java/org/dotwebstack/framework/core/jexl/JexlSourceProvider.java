@@ -0,0 +1,17 @@
+package org.dotwebstack.framework.core.jexl;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * Supplies the JEXL sources of a module's configuration, so the registry can compile all of them
+ * once at startup.
+ */
+public interface JexlSourceProvider {
+
+  Collection<String> getExpressions();
+
+  default Collection<String> getScripts() {
+    return List.of();
+  }
+}
@@ -0,0 +1,45 @@
+package org.dotwebstack.framework.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PreparsedDocumentCacheTest {
+
+  private static final String QUERY = "{ brewery(identifier: \"123\") { name }}";
+
+  private final PreparsedDocumentCache preparsedDocumentCache = new PreparsedDocumentCache(10);
+
+  @Test
+  void getDocument_ReturnsCachedEntry_ForSameQueryText() {
+    // Arrange
+    AtomicInteger parseCount = new AtomicInteger();
+    ExecutionInput executionInput = ExecutionInput.newExecutionInput()
+        .query(QUERY)
+        .build();
+    PreparsedDocumentEntry first = preparsedDocumentCache.getDocument(executionInput, input -> {
+      parseCount.incrementAndGet();
+      return new PreparsedDocumentEntry(new Parser().parseDocument(input.getQuery()));
+    });
+
+    // Act
+    PreparsedDocumentEntry second = preparsedDocumentCache.getDocument(executionInput, input -> {
+      parseCount.incrementAndGet();
+      return new PreparsedDocumentEntry(new Parser().parseDocument(input.getQuery()));
+    });
+
+    // Assert
+    assertThat(second, is(sameInstance(first)));
+    assertThat(parseCount.get(), is(1));
+    assertThat(preparsedDocumentCache.getHitCount(), is(1L));
+    assertThat(preparsedDocumentCache.getMissCount(), is(1L));
+    assertThat(preparsedDocumentCache.getHitRate(), is(0.5));
+  }
+
+}
@@ -0,0 +1,68 @@
+package org.dotwebstack.framework.core.datafetchers;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import graphql.Scalars;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DataFetcherRouterTest {
+
+  private final GraphQLFieldDefinition fieldDefinition = GraphQLFieldDefinition.newFieldDefinition()
+      .name("name")
+      .type(Scalars.GraphQLString)
+      .build();
+
+  @Mock
+  private DataFetchingEnvironment environment;
+
+  @Mock
+  private CoreDataFetcher<Object> sourceDataFetcher;
+
+  @BeforeEach
+  void setUp() {
+    when(environment.getFieldDefinition()).thenReturn(fieldDefinition);
+  }
+
+  @Test
+  void get_ResolvesDataFetcherOnce_ForRepeatedFieldResolution() throws Exception {
+    // Arrange
+    when(sourceDataFetcher.getType()).thenReturn(DataFetcherType.SOURCE);
+    when(sourceDataFetcher.supports(any())).thenReturn(true);
+    when(sourceDataFetcher.get(environment)).thenReturn("foo");
+    DataFetcherRouter dataFetcherRouter = new DataFetcherRouter(ImmutableSet.of(sourceDataFetcher));
+    dataFetcherRouter.get(environment);
+
+    // Act
+    Object result = dataFetcherRouter.get(environment);
+
+    // Assert
+    assertThat(result, equalTo("foo"));
+    verify(sourceDataFetcher, times(1)).supports(any());
+  }
+
+  @Test
+  void get_ThrowsException_ForUnsupportedField() {
+    // Arrange
+    when(sourceDataFetcher.getType()).thenReturn(DataFetcherType.SOURCE);
+    when(sourceDataFetcher.supports(any())).thenReturn(false);
+    DataFetcherRouter dataFetcherRouter = new DataFetcherRouter(ImmutableSet.of(sourceDataFetcher));
+
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class, () -> dataFetcherRouter.get(environment));
+  }
+
+}
@@ -14,6 +14,7 @@ import java.util.function.Supplier;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
 import org.dotwebstack.framework.core.directives.CoreDirectives;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,7 +55,10 @@ class TransformDirectiveDataFetcherTest {
 
   @BeforeEach
   void setUp() {
-    transformDirectiveDataFetcher = new TransformDirectiveDataFetcher(jexlEngine);
+    transformDirectiveDataFetcher = new TransformDirectiveDataFetcher(JexlRegistry.builder(jexlEngine)
+        .expression(LENGTH_EXPR)
+        .expression(DATE_EXPR)
+        .build());
   }
 
   @Test
@@ -9,6 +9,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import graphql.Scalars;
 import graphql.schema.GraphQLArgument;
 import graphql.schema.GraphQLDirective;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import java.util.List;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 import org.junit.jupiter.api.Test;
 
@@ -78,4 +81,32 @@ class DirectiveUtilsTest {
     assertThrows(InvalidConfigurationException.class, () -> DirectiveUtils.getArgument("foo", directive, String.class));
   }
 
+
+  @Test
+  void getFieldArguments_returnsStrings_forFieldsOfTypesAndExtensions() {
+    // Arrange
+    TypeDefinitionRegistry registry = new SchemaParser().parse("type Foo { bar: Int @transform(expr: \"a\") "
+        + "baz: Int @transform(expr: \"b\") qux: Int } extend type Foo { quux: Int @transform(expr: \"c\") }");
+
+    // Act
+    List<String> values =
+        DirectiveUtils.getFieldArguments(registry, CoreDirectives.TRANSFORM_NAME, CoreDirectives.TRANSFORM_ARG_EXPR);
+
+    // Assert
+    assertThat(values, is(equalTo(List.of("a", "b", "c"))));
+  }
+
+  @Test
+  void getFieldArguments_returnsStrings_forFieldsOfInterfacesAndExtensions() {
+    // Arrange
+    TypeDefinitionRegistry registry = new SchemaParser().parse("interface Foo { bar: Int @transform(expr: \"a\") } "
+        + "extend interface Foo { baz: Int @transform(expr: \"b\") }");
+
+    // Act
+    List<String> values =
+        DirectiveUtils.getFieldArguments(registry, CoreDirectives.TRANSFORM_NAME, CoreDirectives.TRANSFORM_ARG_EXPR);
+
+    // Assert
+    assertThat(values, is(equalTo(List.of("a", "b"))));
+  }
 }
@@ -23,7 +23,12 @@ public class JexlHelperTest {
       .strict(true)
       .create();
 
-  private final JexlHelper jexlHelper = new JexlHelper(this.jexlEngine);
+  private final JexlHelper jexlHelper = new JexlHelper(JexlRegistry.builder(this.jexlEngine)
+      .expression("directiveValue1")
+      .script("var result = `${key1}`; return result;")
+      .script("var result = `${key1}`; return null;")
+      .script("return 12;")
+      .build());
 
   @Test
   public void evaluateDirective_returns_value() {
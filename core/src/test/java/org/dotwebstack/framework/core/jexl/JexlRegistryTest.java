@@ -0,0 +1,85 @@
+package org.dotwebstack.framework.core.jexl;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.MapContext;
+import org.dotwebstack.framework.core.InvalidConfigurationException;
+import org.junit.jupiter.api.Test;
+
+class JexlRegistryTest {
+
+  private final JexlEngine jexlEngine = new JexlBuilder().silent(false)
+      .strict(true)
+      .create();
+
+  @Test
+  void expression_ThrowsException_ForInvalidSyntax() {
+    // Arrange
+    JexlRegistry.Builder builder = JexlRegistry.builder(jexlEngine);
+
+    // Act & Assert
+    assertThrows(InvalidConfigurationException.class, () -> builder.expression("foo.length("));
+  }
+
+  @Test
+  void script_ThrowsException_ForInvalidSyntax() {
+    // Arrange
+    JexlRegistry.Builder builder = JexlRegistry.builder(jexlEngine);
+
+    // Act & Assert
+    assertThrows(InvalidConfigurationException.class, () -> builder.script("return 'a' +;"));
+  }
+
+  @Test
+  void evaluateExpression_CountsEvaluations_ForRegisteredExpression() {
+    // Arrange
+    JexlRegistry jexlRegistry = JexlRegistry.builder(jexlEngine)
+        .expression("foo.length()")
+        .build();
+    MapContext context = new MapContext(ImmutableMap.of("foo", "bar"));
+
+    // Act
+    jexlRegistry.evaluateExpression("foo.length()", context);
+    Object result = jexlRegistry.evaluateExpression("foo.length()", context);
+
+    // Assert
+    assertThat(result, is(equalTo(3)));
+    assertThat(jexlRegistry.getEvaluationCount("foo.length()"), is(equalTo(2L)));
+    assertThat(jexlRegistry.getEvaluationTime("foo.length()", TimeUnit.NANOSECONDS) > 0, is(true));
+  }
+
+  @Test
+  void executeScript_CountsEvaluations_ForRegisteredScript() {
+    // Arrange
+    JexlRegistry jexlRegistry = JexlRegistry.builder(jexlEngine)
+        .script("return foo + 'baz';")
+        .build();
+
+    // Act
+    Object result = jexlRegistry.executeScript("return foo + 'baz';", new MapContext(ImmutableMap.of("foo", "bar")));
+
+    // Assert
+    assertThat(result, is(equalTo("barbaz")));
+    assertThat(jexlRegistry.containsScript("return foo + 'baz';"), is(true));
+    assertThat(jexlRegistry.getEvaluationCount("return foo + 'baz';"), is(equalTo(1L)));
+  }
+
+  @Test
+  void executeScript_ThrowsException_ForUnregisteredScript() {
+    // Arrange
+    JexlRegistry jexlRegistry = JexlRegistry.builder(jexlEngine)
+        .build();
+    MapContext context = new MapContext(ImmutableMap.of("foo", "bar"));
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> jexlRegistry.executeScript("return foo + 'baz';", context));
+  }
+
+}
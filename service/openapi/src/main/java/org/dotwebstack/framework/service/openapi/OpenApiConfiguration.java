@@ -17,9 +17,11 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.core.query.GraphQlField;
 import org.dotwebstack.framework.core.query.GraphQlFieldBuilder;
 import org.dotwebstack.framework.service.openapi.handler.CoreRequestHandler;
+import org.dotwebstack.framework.service.openapi.handler.ExecutionPool;
 import org.dotwebstack.framework.service.openapi.handler.OpenApiRequestHandler;
 import org.dotwebstack.framework.service.openapi.handler.OptionsRequestHandler;
 import org.dotwebstack.framework.service.openapi.helper.QueryFieldHelper;
@@ -59,11 +61,16 @@ public class OpenApiConfiguration {
 
   private final RequestBodyHandlerRouter requestBodyHandlerRouter;
 
+  private final JexlRegistry jexlRegistry;
+
+  private final ExecutionPool executionPool;
+
   private QueryFieldHelper queryFieldHelper;
 
   public OpenApiConfiguration(OpenAPI openApi, GraphQL graphQl, TypeDefinitionRegistry typeDefinitionRegistry,
       ResponseMapper responseMapper, ParamHandlerRouter paramHandlerRouter, InputStream openApiStream,
-      ResponseContextValidator responseContextValidator, RequestBodyHandlerRouter requestBodyHandlerRouter) {
+      ResponseContextValidator responseContextValidator, RequestBodyHandlerRouter requestBodyHandlerRouter,
+      JexlRegistry jexlRegistry, ExecutionPool executionPool) {
     this.openApi = openApi;
     this.graphQl = graphQl;
     this.paramHandlerRouter = paramHandlerRouter;
@@ -75,6 +82,8 @@ public class OpenApiConfiguration {
         .build();
     this.openApiStream = openApiStream;
     this.requestBodyHandlerRouter = requestBodyHandlerRouter;
+    this.jexlRegistry = jexlRegistry;
+    this.executionPool = executionPool;
   }
 
   @Bean
@@ -83,6 +92,7 @@ public class OpenApiConfiguration {
 
     ResponseTemplateBuilder responseTemplateBuilder = ResponseTemplateBuilder.builder()
         .openApi(openApi)
+        .jexlRegistry(jexlRegistry)
         .build();
     RequestBodyContextBuilder requestBodyContextBuilder = new RequestBodyContextBuilder(openApi);
     openApi.getPaths()
@@ -155,7 +165,7 @@ public class OpenApiConfiguration {
 
     return RouterFunctions.route(requestPredicate,
         new CoreRequestHandler(openApi, httpMethodOperation.getName(), responseSchemaContext, responseContextValidator,
-            graphQl, responseMapper, paramHandlerRouter, requestBodyHandlerRouter));
+            graphQl, responseMapper, paramHandlerRouter, requestBodyHandlerRouter, executionPool));
   }
 
   protected Optional<RouterFunction<ServerResponse>> toOptionRouterFunction(
@@ -0,0 +1,19 @@
+package org.dotwebstack.framework.service.openapi;
+
+import lombok.NonNull;
+import org.dotwebstack.framework.service.openapi.handler.ExecutionPool;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OpenApiProperties.class)
+public class OpenApiExecutionConfiguration {
+
+  private static final String POOL_NAME = "openapi";
+
+  @Bean
+  public ExecutionPool executionPool(@NonNull OpenApiProperties openApiProperties) {
+    return new ExecutionPool(POOL_NAME, openApiProperties.getExecutor());
+  }
+}
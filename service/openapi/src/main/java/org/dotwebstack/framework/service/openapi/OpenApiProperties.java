@@ -0,0 +1,29 @@
+package org.dotwebstack.framework.service.openapi;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "dotwebstack.openapi")
+public class OpenApiProperties {
+
+  private ExecutorProperties executor = new ExecutorProperties();
+
+  @Getter
+  @Setter
+  public static class ExecutorProperties {
+
+    private int poolSize = Runtime.getRuntime()
+        .availableProcessors();
+
+    private int queueCapacity = 256;
+
+    private long keepAlive = 60000;
+
+  }
+
+}
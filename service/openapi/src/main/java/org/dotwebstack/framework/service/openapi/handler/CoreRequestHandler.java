@@ -12,15 +12,16 @@ import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DW
 import static org.dotwebstack.framework.service.openapi.helper.SchemaResolver.resolveRequestBody;
 import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.createNewDataStack;
 import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.createNewResponseWriteContext;
-import static org.springframework.web.reactive.function.BodyInserters.fromPublisher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayDeque;
 import java.util.HashMap;
@@ -28,9 +29,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.core.ExecutionRejectedException;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 import org.dotwebstack.framework.core.query.GraphQlArgument;
 import org.dotwebstack.framework.core.query.GraphQlField;
@@ -39,14 +45,17 @@ import org.dotwebstack.framework.service.openapi.exception.GraphQlErrorException
 import org.dotwebstack.framework.service.openapi.exception.NoResultFoundException;
 import org.dotwebstack.framework.service.openapi.exception.ParameterValidationException;
 import org.dotwebstack.framework.service.openapi.mapping.ResponseMapper;
-import org.dotwebstack.framework.service.openapi.param.ParamHandler;
+import org.dotwebstack.framework.service.openapi.param.ParamBinder;
 import org.dotwebstack.framework.service.openapi.param.ParamHandlerRouter;
-import org.dotwebstack.framework.service.openapi.query.GraphQlQueryBuilder;
+import org.dotwebstack.framework.service.openapi.query.GraphQlQueryCache;
 import org.dotwebstack.framework.service.openapi.requestbody.RequestBodyHandlerRouter;
 import org.dotwebstack.framework.service.openapi.response.RequestBodyContext;
 import org.dotwebstack.framework.service.openapi.response.ResponseContextValidator;
 import org.dotwebstack.framework.service.openapi.response.ResponseSchemaContext;
 import org.dotwebstack.framework.service.openapi.response.ResponseTemplate;
+import org.dotwebstack.framework.service.openapi.response.ResponseWriteContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
@@ -54,12 +63,14 @@ import org.springframework.web.reactive.function.server.HandlerFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
 
+  private static final int RESPONSE_CHUNK_SIZE = 8192;
+
   private OpenAPI openApi;
 
   private final ResponseSchemaContext responseSchemaContext;
@@ -76,9 +87,20 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
 
   private final String pathName;
 
+  private final GraphQlQueryCache queryCache;
+
+  private final Set<String> queryParameterNames;
+
+  private final Set<String> pathParameterNames;
+
+  private final List<ParamBinder> paramBinders;
+
+  private final ExecutionPool executionPool;
+
   public CoreRequestHandler(OpenAPI openApi, String pathName, ResponseSchemaContext responseSchemaContext,
       ResponseContextValidator responseContextValidator, GraphQL graphQL, ResponseMapper responseMapper,
-      ParamHandlerRouter paramHandlerRouter, RequestBodyHandlerRouter requestBodyHandlerRouter) {
+      ParamHandlerRouter paramHandlerRouter, RequestBodyHandlerRouter requestBodyHandlerRouter,
+      ExecutionPool executionPool) {
     this.openApi = openApi;
     this.pathName = pathName;
     this.responseSchemaContext = responseSchemaContext;
@@ -87,13 +109,36 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
     this.paramHandlerRouter = paramHandlerRouter;
     this.responseContextValidator = responseContextValidator;
     this.requestBodyHandlerRouter = requestBodyHandlerRouter;
+    this.executionPool = executionPool;
+    this.queryCache = new GraphQlQueryCache(responseSchemaContext);
     validateSchema();
+    responseMapper.compile(getResponseTemplate().getResponseObject());
+
+    List<Parameter> parameters = Objects.requireNonNullElse(responseSchemaContext.getParameters(), List.of());
+    this.queryParameterNames = getParameterNamesOfType(parameters, "query");
+    this.pathParameterNames = getParameterNamesOfType(parameters, "path");
+    this.paramBinders = parameters.stream()
+        .map(parameter -> paramHandlerRouter.getParamHandler(parameter)
+            .createBinder(parameter))
+        .collect(Collectors.toUnmodifiableList());
   }
 
   @Override
   public Mono<ServerResponse> handle(@NonNull ServerRequest request) {
-    Mono<String> bodyPublisher = Mono.fromCallable(() -> getResponse(request))
-        .publishOn(Schedulers.elastic())
+    ResponseTemplate template = getResponseTemplate();
+    return ServerResponse.ok()
+        .contentType(MediaType.parseMediaType(template.getMediaType()))
+        .body((outputMessage, context) -> outputMessage.writeWith(getBody(request, outputMessage.bufferFactory())));
+  }
+
+  private Flux<DataBuffer> getBody(ServerRequest request, DataBufferFactory bufferFactory) {
+    return resolveParameters(request).publishOn(executionPool.getScheduler())
+        .flatMapMany(inputParams -> executeQuery(request, inputParams).publishOn(executionPool.getScheduler())
+            .flatMapMany(result -> getResponse(request, inputParams, result, bufferFactory)))
+        .onErrorResume(RejectedExecutionException.class,
+            exception -> getMonoError("The service is too busy to handle the request.", HttpStatus.SERVICE_UNAVAILABLE))
+        .onErrorResume(ExecutionRejectedException.class,
+            exception -> getMonoError("The service is too busy to handle the request.", HttpStatus.SERVICE_UNAVAILABLE))
         .onErrorResume(ParameterValidationException.class,
             exception -> getMonoError(format("Error while obtaining request parameters: %s", exception.getMessage()),
                 HttpStatus.BAD_REQUEST))
@@ -110,11 +155,6 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
         .onErrorResume(InvalidConfigurationException.class,
             exception -> getMonoError(format("Error while validating the request: %s", exception.getMessage()),
                 HttpStatus.BAD_REQUEST));
-
-    ResponseTemplate template = getResponseTemplate();
-    return ServerResponse.ok()
-        .contentType(MediaType.parseMediaType(template.getMediaType()))
-        .body(fromPublisher(bodyPublisher, String.class));
   }
 
   private void validateSchema() {
@@ -167,18 +207,15 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
     }
   }
 
-  private Mono<String> getMonoError(String message, HttpStatus statusCode) {
+  private Mono<DataBuffer> getMonoError(String message, HttpStatus statusCode) {
     return Mono.error(new ResponseStatusException(statusCode, message));
   }
 
-  private String getResponse(ServerRequest request)
-      throws NoResultFoundException, JsonProcessingException, GraphQlErrorException, BadRequestException {
-    Map<String, Object> inputParams = resolveParameters(request);
-
+  private Mono<ExecutionResult> executeQuery(ServerRequest request, Map<String, Object> inputParams) {
     String query = buildQueryString(inputParams);
 
     if (LOG.isDebugEnabled()) {
-      logInputRequest(request);
+      logInputRequest(request, inputParams);
       LOG.debug("GraphQL query is:\n\n{}\n", formatGraphQlQuery(query));
     }
 
@@ -187,7 +224,12 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
         .variables(inputParams)
         .build();
 
-    ExecutionResult result = graphQL.execute(executionInput);
+    // SPARQL queries run on the repository executors, so no thread waits for the result
+    return Mono.fromFuture(graphQL.executeAsync(executionInput));
+  }
+
+  private Flux<DataBuffer> getResponse(ServerRequest request, Map<String, Object> inputParams, ExecutionResult result,
+      DataBufferFactory bufferFactory) {
     if (result.getErrors()
         .isEmpty()) {
       Object data = ((Map) result.getData()).values()
@@ -195,13 +237,41 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
           .next();
 
       URI uri = request.uri();
-      return responseMapper.toJson(createNewResponseWriteContext(getResponseTemplate().getResponseObject(), data,
-          inputParams, createNewDataStack(new ArrayDeque<>(), data, inputParams), uri));
+      ResponseWriteContext writeContext = createNewResponseWriteContext(getResponseTemplate().getResponseObject(), data,
+          inputParams, createNewDataStack(new ArrayDeque<>(), data, inputParams), uri);
+
+      DataBufferOutputStream outputStream = new DataBufferOutputStream(bufferFactory, RESPONSE_CHUNK_SIZE);
+
+      try {
+        responseMapper.writeJson(writeContext, outputStream);
+      } catch (IOException | NoResultFoundException | RuntimeException e) {
+        outputStream.release();
+        return Flux.error(e);
+      }
+
+      // the body is only emitted once the whole response is mapped, so mapping errors still set the
+      // status
+      return outputStream.toFlux();
     }
-    throw graphQlErrorException("GraphQL query returned errors: {}", result.getErrors());
+    Optional<ExecutionRejectedException> rejection = findRejection(result);
+    if (rejection.isPresent()) {
+      return Flux.error(rejection.get());
+    }
+    return Flux.error(graphQlErrorException("GraphQL query returned errors: {}", result.getErrors()));
+  }
+
+  private Optional<ExecutionRejectedException> findRejection(ExecutionResult result) {
+    return result.getErrors()
+        .stream()
+        .filter(ExceptionWhileDataFetching.class::isInstance)
+        .map(error -> ((ExceptionWhileDataFetching) error).getException())
+        .map(exception -> exception instanceof CompletionException ? exception.getCause() : exception)
+        .filter(ExecutionRejectedException.class::isInstance)
+        .map(ExecutionRejectedException.class::cast)
+        .findFirst();
   }
 
-  private void logInputRequest(ServerRequest request) {
+  private void logInputRequest(ServerRequest request, Map<String, Object> inputParams) {
     LOG.debug("Request received at: {}", request);
 
     Map<Object, Object> paramMap = new LinkedHashMap<>();
@@ -214,10 +284,9 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
         .map(entry -> entry.getKey() + " -> " + entry.getValue())
         .collect(Collectors.toList()));
 
-    Mono<String> mono = request.bodyToMono(String.class);
-    String value = mono.block();
-    if (Objects.nonNull(value)) {
-      LOG.debug("Request contains the following body: {}", value);
+    RequestBodyContext requestBodyContext = responseSchemaContext.getRequestBodyContext();
+    if (Objects.nonNull(requestBodyContext) && inputParams.containsKey(requestBodyContext.getName())) {
+      LOG.debug("Request contains the following body: {}", inputParams.get(requestBodyContext.getName()));
     }
   }
 
@@ -258,36 +327,40 @@ public class CoreRequestHandler implements HandlerFunction<ServerResponse> {
         .orElseThrow(() -> unsupportedOperationException("No response found within the 200 range."));
   }
 
-  private Map<String, Object> resolveParameters(ServerRequest request) throws BadRequestException {
+  private Mono<Map<String, Object>> resolveParameters(ServerRequest request) {
+    // binding and validating parameters is CPU-bound, so it runs on the execution pool as well
+    return Mono.fromCallable(() -> bindParameters(request))
+        .subscribeOn(executionPool.getScheduler())
+        .flatMap(result -> {
+          RequestBodyContext requestBodyContext = this.responseSchemaContext.getRequestBodyContext();
+          if (Objects.nonNull(requestBodyContext)) {
+            RequestBody requestBody = resolveRequestBody(openApi, requestBodyContext.getRequestBodySchema());
+            return this.requestBodyHandlerRouter.getRequestBodyHandler(requestBody)
+                .getValue(request, requestBody, result)
+                .doOnNext(value -> result.put(requestBodyContext.getName(), value))
+                .thenReturn(result);
+          }
+          return validateRequestBodyNonexistent(request).thenReturn(result);
+        });
+  }
+
+  private Map<String, Object> bindParameters(ServerRequest request) {
     Map<String, Object> result = new HashMap<>();
     if (Objects.nonNull(this.responseSchemaContext.getParameters())) {
-
-      validateParameterExistence("query", getParameterNamesOfType(this.responseSchemaContext.getParameters(), "query"),
-          request.queryParams()
-              .keySet());
-      validateParameterExistence("path", getParameterNamesOfType(this.responseSchemaContext.getParameters(), "path"),
-          request.pathVariables()
-              .keySet());
-
-      for (Parameter parameter : this.responseSchemaContext.getParameters()) {
-        ParamHandler handler = paramHandlerRouter.getParamHandler(parameter);
-        handler.getValue(request, parameter, responseSchemaContext)
-            .ifPresent(value -> result.put(handler.getParameterName(parameter.getName()), value));
+      validateParameterExistence("query", queryParameterNames, request.queryParams()
+          .keySet());
+      validateParameterExistence("path", pathParameterNames, request.pathVariables()
+          .keySet());
+
+      for (ParamBinder binder : paramBinders) {
+        binder.bind(request, responseSchemaContext)
+            .ifPresent(value -> result.put(binder.getName(), value));
       }
     }
-    RequestBodyContext requestBodyContext = this.responseSchemaContext.getRequestBodyContext();
-    if (Objects.nonNull(requestBodyContext)) {
-      RequestBody requestBody = resolveRequestBody(openApi, requestBodyContext.getRequestBodySchema());
-      this.requestBodyHandlerRouter.getRequestBodyHandler(requestBody)
-          .getValue(request, requestBody, result)
-          .ifPresent(value -> result.put(requestBodyContext.getName(), value));
-    } else {
-      validateRequestBodyNonexistent(request);
-    }
     return result;
   }
 
   private String buildQueryString(Map<String, Object> inputParams) {
-    return new GraphQlQueryBuilder().toQuery(this.responseSchemaContext, inputParams);
+    return queryCache.getQuery(inputParams);
   }
 }
@@ -0,0 +1,101 @@
+package org.dotwebstack.framework.service.openapi.handler;
+
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+/*
+ * Collects the written bytes in chunks of at most the given size, allocated from the buffer factory
+ * of the response, so a large response is never copied into one growing buffer. Nothing is sent
+ * until the writer has finished: a mapping error halfway through the response can still change the
+ * status. The chunks are then emitted as they are requested, and released when the body is
+ * cancelled or the writer fails.
+ */
+class DataBufferOutputStream extends OutputStream {
+
+  private final DataBufferFactory bufferFactory;
+
+  private final int chunkSize;
+
+  private final Queue<DataBuffer> chunks = new ConcurrentLinkedQueue<>();
+
+  private DataBuffer buffer;
+
+  DataBufferOutputStream(@NonNull DataBufferFactory bufferFactory, int chunkSize) {
+    this.bufferFactory = bufferFactory;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void write(int value) {
+    getBuffer().write((byte) value);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    int position = offset;
+    int remaining = length;
+
+    while (remaining > 0) {
+      DataBuffer current = getBuffer();
+      int count = Math.min(remaining, chunkSize - current.readableByteCount());
+      current.write(bytes, position, count);
+      position += count;
+      remaining -= count;
+    }
+  }
+
+  Flux<DataBuffer> toFlux() {
+    completeChunk();
+
+    return Flux.<DataBuffer>generate(sink -> {
+      DataBuffer chunk = chunks.poll();
+
+      if (chunk == null) {
+        sink.complete();
+      } else {
+        sink.next(chunk);
+      }
+    })
+        .doOnCancel(this::release);
+  }
+
+  void release() {
+    completeChunk();
+
+    for (DataBuffer chunk = chunks.poll(); chunk != null; chunk = chunks.poll()) {
+      DataBufferUtils.release(chunk);
+    }
+  }
+
+  private DataBuffer getBuffer() {
+    if (buffer != null && buffer.readableByteCount() >= chunkSize) {
+      completeChunk();
+    }
+
+    if (buffer == null) {
+      buffer = bufferFactory.allocateBuffer(chunkSize);
+    }
+
+    return buffer;
+  }
+
+  private void completeChunk() {
+    if (buffer == null) {
+      return;
+    }
+
+    if (buffer.readableByteCount() > 0) {
+      chunks.add(buffer);
+    } else {
+      DataBufferUtils.release(buffer);
+    }
+
+    buffer = null;
+  }
+}
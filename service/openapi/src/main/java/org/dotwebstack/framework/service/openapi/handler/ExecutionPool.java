@@ -0,0 +1,89 @@
+package org.dotwebstack.framework.service.openapi.handler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.dotwebstack.framework.service.openapi.OpenApiProperties.ExecutorProperties;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/*
+ * Bounded pool for the CPU-bound stages of a request: binding parameters, building the query and
+ * mapping the response. Work is rejected as soon as the queue is full, instead of piling up threads
+ * while a backend is slow. Blocking I/O never runs here: queries go to the bounded per-repository
+ * executors of the backend (RepositoryExecutors for rdf4j), which act as the I/O pool.
+ */
+@Slf4j
+public class ExecutionPool implements AutoCloseable {
+
+  private final String name;
+
+  private final ThreadPoolExecutor executor;
+
+  private final Scheduler scheduler;
+
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  public ExecutionPool(@NonNull String name, @NonNull ExecutorProperties properties) {
+    this.name = name;
+    this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+        properties.getKeepAlive(), TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        createThreadFactory(), this::reject);
+    executor.allowCoreThreadTimeOut(true);
+    this.scheduler = Schedulers.fromExecutorService(executor);
+  }
+
+  public Scheduler getScheduler() {
+    return scheduler;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  public int getQueueDepth() {
+    return executor.getQueue()
+        .size();
+  }
+
+  public long getCompletedCount() {
+    return executor.getCompletedTaskCount();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  private ThreadFactory createThreadFactory() {
+    AtomicInteger threadCount = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private void reject(Runnable runnable, ThreadPoolExecutor pool) {
+    rejectedCount.incrementAndGet();
+    LOG.debug("Rejected task on execution pool '{}' ({} active, {} queued)", name, pool.getActiveCount(),
+        pool.getQueue()
+            .size());
+    throw new RejectedExecutionException(String.format("Execution pool '%s' is saturated.", name));
+  }
+
+  @Override
+  public void close() {
+    scheduler.dispose();
+  }
+}
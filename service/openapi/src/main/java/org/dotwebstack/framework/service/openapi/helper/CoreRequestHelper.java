@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import reactor.core.publisher.Mono;
 
@@ -32,12 +34,17 @@ public class CoreRequestHelper {
     }
   }
 
-  public static void validateRequestBodyNonexistent(ServerRequest request) {
-    Mono<?> mono = request.bodyToMono(String.class);
-    Object value = mono.block();
-    if (Objects.nonNull(value)) {
-      throw invalidConfigurationException("A request body is not allowed for this request");
-    }
+  public static Mono<Void> validateRequestBodyNonexistent(ServerRequest request) {
+    return request.body(BodyExtractors.toDataBuffers())
+        .map(buffer -> {
+          int byteCount = buffer.readableByteCount();
+          DataBufferUtils.release(buffer);
+          return byteCount;
+        })
+        .filter(byteCount -> byteCount > 0)
+        .next()
+        .flatMap(byteCount -> Mono
+            .<Void>error(invalidConfigurationException("A request body is not allowed for this request")));
   }
 
 }
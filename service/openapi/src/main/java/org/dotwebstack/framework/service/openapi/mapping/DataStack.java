@@ -0,0 +1,78 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import org.dotwebstack.framework.service.openapi.response.FieldContext;
+
+/*
+ * Immutable stack of field contexts. Pushing shares the tail with the parent stack, so descending
+ * into a child costs a single allocation instead of a copy of the whole stack.
+ */
+final class DataStack {
+
+  private static final DataStack EMPTY = new DataStack(null, null);
+
+  private final FieldContext head;
+
+  private final DataStack tail;
+
+  private DataStack(FieldContext head, DataStack tail) {
+    this.head = head;
+    this.tail = tail;
+  }
+
+  static DataStack empty() {
+    return EMPTY;
+  }
+
+  static DataStack of(Deque<FieldContext> fieldContexts) {
+    DataStack dataStack = EMPTY;
+
+    if (fieldContexts == null) {
+      return dataStack;
+    }
+
+    Iterator<FieldContext> iterator = fieldContexts.descendingIterator();
+
+    while (iterator.hasNext()) {
+      dataStack = dataStack.push(iterator.next());
+    }
+
+    return dataStack;
+  }
+
+  DataStack push(FieldContext fieldContext) {
+    return new DataStack(fieldContext, this);
+  }
+
+  DataStack pushData(Object data) {
+    if (!(data instanceof Map)) {
+      return this;
+    }
+
+    return push(FieldContext.builder()
+        .data(data)
+        .input(Collections.emptyMap())
+        .build());
+  }
+
+  boolean isEmpty() {
+    return this == EMPTY;
+  }
+
+  FieldContext peek() {
+    return head;
+  }
+
+  FieldContext get(int depth) {
+    DataStack dataStack = this;
+
+    for (int i = 0; i < depth && !dataStack.isEmpty(); i++) {
+      dataStack = dataStack.tail;
+    }
+
+    return dataStack.head;
+  }
+}
@@ -0,0 +1,39 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/*
+ * An array or object whose members are only mapped while it is written, so the response is never
+ * held as an intermediate tree.
+ */
+final class DeferredValue {
+
+  static final DeferredValue EMPTY_ARRAY = new DeferredValue(true, generator -> {
+    generator.writeStartArray();
+    generator.writeEndArray();
+  });
+
+  private final boolean emptyList;
+
+  private final Writer writer;
+
+  DeferredValue(boolean emptyList, Writer writer) {
+    this.emptyList = emptyList;
+    this.writer = writer;
+  }
+
+  boolean isEmptyList() {
+    return emptyList;
+  }
+
+  void write(JsonGenerator generator) throws IOException {
+    writer.write(generator);
+  }
+
+  @FunctionalInterface
+  interface Writer {
+
+    void write(JsonGenerator generator) throws IOException;
+  }
+}
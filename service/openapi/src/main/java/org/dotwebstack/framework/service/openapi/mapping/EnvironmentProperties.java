@@ -1,6 +1,7 @@
 package org.dotwebstack.framework.service.openapi.mapping;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -30,7 +31,9 @@ public class EnvironmentProperties {
             return false;
           }
         })
-        .collect(Collectors.toMap(propertyName -> propertyName, environment::getProperty));
+        .collect(Collectors.collectingAndThen(
+            Collectors.toMap(propertyName -> propertyName, environment::getProperty, (first, second) -> first),
+            Collections::unmodifiableMap));
   }
 
   public Map<String, String> getAllProperties() {
@@ -0,0 +1,132 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import lombok.NonNull;
+import org.apache.commons.jexl3.JexlContext;
+import org.dotwebstack.framework.service.openapi.response.FieldContext;
+
+/*
+ * Exposes the environment, the request and the data stack to JEXL without copying them. The
+ * environment layer is shared by all requests, the other variables are resolved on demand.
+ */
+final class ResponseJexlContext implements JexlContext {
+
+  private static final String ENV_PREFIX = "env.";
+
+  private static final String INPUT_PREFIX = "input.";
+
+  private static final String FIELDS_PREFIX = "fields.";
+
+  private static final String ARGS_PREFIX = "args.";
+
+  private static final String PARENT_PREFIX = "_parent.";
+
+  private static final String REQUEST_URI = "request.uri";
+
+  private final Map<String, String> envProperties;
+
+  private final Map<String, Object> parameters;
+
+  private final URI uri;
+
+  private final DataStack dataStack;
+
+  private Map<String, Object> locals;
+
+  ResponseJexlContext(@NonNull Map<String, String> envProperties, Map<String, Object> parameters, URI uri,
+      @NonNull DataStack dataStack) {
+    this.envProperties = envProperties;
+    this.parameters = parameters;
+    this.uri = uri;
+    this.dataStack = dataStack;
+  }
+
+  @Override
+  public Object get(String name) {
+    if (locals != null && locals.containsKey(name)) {
+      return locals.get(name);
+    }
+
+    if (REQUEST_URI.equals(name)) {
+      return getRequestUri();
+    }
+
+    return lookup(name, Map::get);
+  }
+
+  @Override
+  public void set(String name, Object value) {
+    if (locals == null) {
+      locals = new HashMap<>();
+    }
+
+    locals.put(name, value);
+  }
+
+  @Override
+  public boolean has(String name) {
+    return (locals != null && locals.containsKey(name)) || REQUEST_URI.equals(name)
+        || Boolean.TRUE.equals(lookup(name, Map::containsKey));
+  }
+
+  private <T> T lookup(String name, BiFunction<Map<String, ?>, Object, T> accessor) {
+    if (name.startsWith(ENV_PREFIX)) {
+      return accessor.apply(envProperties, name.substring(ENV_PREFIX.length()));
+    }
+
+    if (name.startsWith(INPUT_PREFIX)) {
+      return parameters != null ? accessor.apply(parameters, name.substring(INPUT_PREFIX.length())) : null;
+    }
+
+    if (name.startsWith(FIELDS_PREFIX)) {
+      return lookupStack(name, FIELDS_PREFIX, false, accessor);
+    }
+
+    if (name.startsWith(ARGS_PREFIX)) {
+      return lookupStack(name, ARGS_PREFIX, true, accessor);
+    }
+
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T lookupStack(String name, String prefix, boolean input, BiFunction<Map<String, ?>, Object, T> accessor) {
+    int offset = prefix.length();
+    int depth = 0;
+
+    while (name.startsWith(PARENT_PREFIX, offset)) {
+      offset += PARENT_PREFIX.length();
+      depth++;
+    }
+
+    FieldContext fieldContext = dataStack.get(depth);
+
+    if (fieldContext == null) {
+      return null;
+    }
+
+    String key = name.substring(offset);
+
+    if (input) {
+      Map<String, Object> arguments = fieldContext.getInput();
+      return arguments != null ? accessor.apply(arguments, key) : null;
+    }
+
+    Map<String, Object> data = (Map<String, Object>) fieldContext.getData();
+
+    // nested objects are not exposed as fields
+    if (data == null || data.get(key) instanceof Map) {
+      return null;
+    }
+
+    return accessor.apply(data, key);
+  }
+
+  private String getRequestUri() {
+    String uriString = uri.toString();
+    return uriString.substring(uriString.indexOf(uri.getPath()));
+  }
+}
@@ -5,27 +5,26 @@ import static org.dotwebstack.framework.service.openapi.exception.OpenApiExcepti
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.ARRAY_TYPE;
 import static org.dotwebstack.framework.service.openapi.helper.OasConstants.OBJECT_TYPE;
 import static org.dotwebstack.framework.service.openapi.mapping.ResponseMapperHelper.isRequiredAndNullOrEmpty;
-import static org.dotwebstack.framework.service.openapi.response.ResponseContextHelper.getPathString;
-import static org.dotwebstack.framework.service.openapi.response.ResponseContextHelper.isExpanded;
-import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.createResponseContextFromChildData;
-import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.createResponseWriteContextFromChildSchema;
-import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.unwrapChildSchema;
-import static org.dotwebstack.framework.service.openapi.response.ResponseWriteContextHelper.unwrapItemSchema;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
-import org.apache.commons.jexl3.JexlEngine;
-import org.apache.commons.jexl3.MapContext;
 import org.dotwebstack.framework.core.jexl.JexlHelper;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.service.openapi.conversion.TypeConverterRouter;
 import org.dotwebstack.framework.service.openapi.exception.NoResultFoundException;
 import org.dotwebstack.framework.service.openapi.response.ResponseObject;
@@ -45,213 +44,249 @@ public class ResponseMapper {
 
   private final TypeConverterRouter typeConverterRouter;
 
-  public ResponseMapper(Jackson2ObjectMapperBuilder objectMapperBuilder, JexlEngine jexlEngine,
+  private final Map<ResponseObject, ResponsePlan> plans = new ConcurrentHashMap<>();
+
+  public ResponseMapper(Jackson2ObjectMapperBuilder objectMapperBuilder, JexlRegistry jexlRegistry,
       EnvironmentProperties properties, TypeConverterRouter typeConverterRouter) {
     this.objectMapper = objectMapperBuilder.build();
-    this.jexlHelper = new JexlHelper(jexlEngine);
+    this.jexlHelper = new JexlHelper(jexlRegistry);
     this.properties = properties;
     this.typeConverterRouter = typeConverterRouter;
   }
 
-  public String toJson(@NonNull ResponseWriteContext writeContext)
-      throws JsonProcessingException, NoResultFoundException {
-    Object response = mapDataToResponse(writeContext, "");
+  public void compile(@NonNull ResponseObject responseObject) {
+    plans.computeIfAbsent(responseObject, ResponsePlan::compile);
+  }
+
+  public String toJson(@NonNull ResponseWriteContext writeContext) throws IOException, NoResultFoundException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writeJson(writeContext, outputStream);
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+
+  public void writeJson(@NonNull ResponseWriteContext writeContext, @NonNull OutputStream outputStream)
+      throws IOException, NoResultFoundException {
+    ResponsePlan plan = plans.computeIfAbsent(writeContext.getResponseObject(), ResponsePlan::compile);
+    WriteState state = new WriteState(writeContext.getParameters(), writeContext.getUri(),
+        plan.getExpanded(writeContext.getParameters()));
+
+    Object response =
+        mapDataToResponse(plan.getRoot(), writeContext.getData(), DataStack.of(writeContext.getDataStack()), state);
     if (Objects.isNull(response)) {
       throw noResultFoundException("Did not find data for your response.");
     }
-    return toJson(response);
-  }
 
-  private String toJson(Object object) throws JsonProcessingException {
-    return this.objectMapper.writer()
-        .writeValueAsString(object);
+    try (JsonGenerator generator = objectMapper.getFactory()
+        .createGenerator(outputStream, JsonEncoding.UTF8)) {
+      if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+        generator.useDefaultPrettyPrinter();
+      }
+
+      writeValue(generator, response);
+    }
   }
 
-  private Object mapDataToResponse(@NonNull ResponseWriteContext writeContext, String path) {
-    ResponseObject responseObject = writeContext.getResponseObject();
-    SchemaSummary summary = responseObject.getSummary();
+  private void writeValue(JsonGenerator generator, Object value) throws IOException {
+    if (value instanceof DeferredValue) {
+      ((DeferredValue) value).write(generator);
+      return;
+    }
+
+    generator.writeObject(value);
+  }
 
-    String newPath = addToPath(path, responseObject, false);
+  private Object mapDataToResponse(ResponseNode node, Object data, DataStack dataStack, WriteState state) {
+    SchemaSummary summary = node.getSummary();
 
     switch (summary.getType()) {
       case ARRAY_TYPE:
-        if (summary.isRequired()
-            || isExpanded(writeContext.getParameters(), removeRoot(addToPath(newPath, responseObject, true)))) {
-          return mapArrayDataToResponse(writeContext, newPath);
+        if (summary.isRequired() || state.isExpanded(node)) {
+          return mapArrayDataToResponse(node, data, dataStack, state);
         }
-        return new ArrayList<>();
+        return DeferredValue.EMPTY_ARRAY;
       case OBJECT_TYPE:
-        if (summary.isRequired() || summary.isEnvelope()
-            || isExpanded(writeContext.getParameters(), removeRoot(newPath))) {
+        if (summary.isRequired() || summary.isEnvelope() || state.isExpanded(node)) {
           if (summary.isEnvelope()) {
-            return mapEnvelopeObjectToResponse(writeContext, newPath);
+            return mapEnvelopeObjectToResponse(node, data, dataStack, state);
           }
-          return mapObjectDataToResponse(writeContext, newPath);
+          return mapObjectDataToResponse(node, data, dataStack, state);
         }
         return null;
       default:
-        if (summary.isRequired() || Objects.nonNull(summary.getDwsExpr())
-            || isExpanded(writeContext.getParameters(), removeRoot(newPath))) {
-          return mapScalarDataToResponse(writeContext);
+        if (summary.isRequired() || Objects.nonNull(summary.getDwsExpr()) || state.isExpanded(node)) {
+          return mapScalarDataToResponse(node, data, dataStack, state);
         }
         return null;
     }
   }
 
-  private String removeRoot(String path) {
-    if (path.contains(".")) {
-      return path.substring(path.indexOf('.') + 1);
-    }
-    return "";
-  }
-
   @SuppressWarnings("unchecked")
-  private Object mapArrayDataToResponse(ResponseWriteContext parentContext, String path) {
-    if (Objects.isNull(parentContext.getData())) {
-      return Collections.emptyList();
+  private Object mapArrayDataToResponse(ResponseNode node, Object data, DataStack dataStack, WriteState state) {
+    if (Objects.isNull(data)) {
+      return DeferredValue.EMPTY_ARRAY;
     }
 
-    if (parentContext.getData() instanceof List) {
-      return ((List<Object>) parentContext.getData()).stream()
-          .map(childData -> mapDataToResponse(createResponseContextFromChildData(parentContext, childData), path))
-          .collect(Collectors.toList());
+    if (data instanceof List) {
+      List<Object> items = (List<Object>) data;
+      return new DeferredValue(items.isEmpty(), generator -> {
+        generator.writeStartArray();
+        for (Object childData : items) {
+          writeValue(generator, Objects.isNull(childData) ? null
+              : mapDataToResponse(node, childData, dataStack.pushData(childData), state));
+        }
+        generator.writeEndArray();
+      });
     }
-    return mapDataToResponse(unwrapItemSchema(parentContext), path);
+    return mapDataToResponse(node.getItem(), data, dataStack, state);
   }
 
-  private Object mapObjectDataToResponse(@NonNull ResponseWriteContext parentContext, String path) {
-    if (Objects.isNull(parentContext.getData())) {
+  @SuppressWarnings("rawtypes")
+  private Object mapObjectDataToResponse(ResponseNode node, Object data, DataStack dataStack, WriteState state) {
+    if (Objects.isNull(data)) {
       return null;
     }
 
-    if (Objects.nonNull(parentContext.getResponseObject()
-        .getSummary()
+    if (Objects.nonNull(node.getSummary()
         .getDwsType())) {
-      return parentContext.getData();
+      return data;
     }
 
-    Map<String, Object> result = new HashMap<>();
-    parentContext.getResponseObject()
-        .getSummary()
-        .getChildren()
-        .forEach(childSchema -> {
-          ResponseWriteContext writeContext = createResponseWriteContextFromChildSchema(parentContext, childSchema);
-          Object object = mapObject(writeContext, mapDataToResponse(writeContext, path));
-          result.put(childSchema.getIdentifier(), convertType(writeContext, object));
-        });
-    return result;
+    return new DeferredValue(false, generator -> {
+      generator.writeStartObject();
+      for (ResponseNode child : node.getChildren()) {
+        Object childData = data;
+        DataStack childStack = dataStack;
+
+        if (!child.getSummary()
+            .isEnvelope()) {
+          if (!dataStack.isEmpty()) {
+            childData = ((Map) dataStack.peek()
+                .getData()).get(child.getIdentifier());
+            childStack = dataStack.pushData(childData);
+          } else if (data instanceof Map) {
+            childData = ((Map) data).get(child.getIdentifier());
+          }
+        }
+
+        Object object = mapObject(child, mapDataToResponse(child, childData, childStack, state));
+        generator.writeFieldName(child.getIdentifier());
+        writeValue(generator, convertType(child, object, state));
+      }
+      generator.writeEndObject();
+    });
   }
 
-  private Object mapScalarDataToResponse(@NonNull ResponseWriteContext writeContext) {
-    if (Objects.isNull(writeContext.getResponseObject()
-        .getSummary()
+  private Object mapScalarDataToResponse(ResponseNode node, Object data, DataStack dataStack, WriteState state) {
+    if (Objects.isNull(node.getSummary()
         .getDwsExpr())) {
-      return writeContext.getData();
+      return data;
     }
 
-    Optional<String> evaluated = evaluateJexl(writeContext);
+    Optional<String> evaluated = evaluateJexl(node, dataStack, state);
     if (evaluated.isPresent()) {
       return evaluated.get();
     }
 
-    if (writeContext.isSchemaRequiredNonNillable()) {
+    if (node.getSummary()
+        .isRequired()
+        && !node.getSummary()
+            .isNillable()) {
       throw mappingException(String.format(
           "Could not create response: required and non-nillable property '%s' expression evaluation returned null.",
-          writeContext.getResponseObject()
-              .getIdentifier()));
+          node.getIdentifier()));
     }
 
     return null;
   }
 
   @SuppressWarnings("rawtypes")
-  private Object mapEnvelopeObjectToResponse(ResponseWriteContext parentContext, String path) {
-    Map<String, Object> result = new HashMap<>();
-    unwrapChildSchema(parentContext).forEach(child -> {
-      Object object = mapDataToResponse(child, path);
-      result.put(child.getResponseObject()
-          .getIdentifier(), object);
+  private Object mapEnvelopeObjectToResponse(ResponseNode node, Object data, DataStack dataStack, WriteState state) {
+    return new DeferredValue(false, generator -> {
+      generator.writeStartObject();
+      for (ResponseNode child : node.getChildren()) {
+        Object childData = data;
+        DataStack childStack = dataStack;
+
+        if (!child.getSummary()
+            .isEnvelope() && data instanceof Map) {
+          childData = ((Map) data).get(child.getIdentifier());
+          childStack = dataStack.pushData(childData);
+        }
+
+        Object object = mapDataToResponse(child, childData, childStack, state);
+        generator.writeFieldName(child.getIdentifier());
+        writeValue(generator, object);
+      }
+      generator.writeEndObject();
     });
-    return result;
   }
 
-  private Object convertType(ResponseWriteContext writeContext, Object item) {
+  private Object convertType(ResponseNode node, Object item, WriteState state) throws IOException {
     if (Objects.isNull(item)) {
       return null;
     }
 
-    return Objects.nonNull(writeContext.getResponseObject()
-        .getSummary()
-        .getDwsType()) ? typeConverterRouter.convert(item, writeContext.getParameters()) : item;
-  }
+    if (Objects.isNull(node.getSummary()
+        .getDwsType())) {
+      return item;
+    }
+
+    // converters work on plain values, so deferred members are materialized first
+    Object value = item;
+    if (item instanceof DeferredValue) {
+      TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+      ((DeferredValue) item).write(buffer);
+      value = objectMapper.readValue(buffer.asParser(), Object.class);
+    }
 
+    return typeConverterRouter.convert(value, state.getParameters());
+  }
 
-  private Object mapObject(ResponseWriteContext writeContext, Object object) {
-    if (isRequiredAndNullOrEmpty(writeContext, object)) {
-      if (writeContext.getResponseObject()
-          .getSummary()
+  private Object mapObject(ResponseNode node, Object object) {
+    if (isRequiredAndNullOrEmpty(node.getSummary(), object)) {
+      if (node.getSummary()
           .isNillable()) {
         return null;
       } else {
-        throw mappingException(
-            "Could not map GraphQL response: Required and non-nillable "
-                + "property '{}' was not returned in GraphQL response.",
-            writeContext.getResponseObject()
-                .getIdentifier());
+        throw mappingException("Could not map GraphQL response: Required and non-nillable "
+            + "property '{}' was not returned in GraphQL response.", node.getIdentifier());
       }
     }
     return object;
   }
 
-  @SuppressWarnings("unchecked")
-  private Optional<String> evaluateJexl(ResponseWriteContext writeContext) {
-    MapContext context = new MapContext();
-
-    // add object data to context
-    StringBuilder fieldsBuilder = new StringBuilder("fields.");
-    StringBuilder argsBuilder = new StringBuilder("args.");
-    writeContext.getParameters()
-        .entrySet()
-        .forEach(entry -> {
-          context.set("input." + entry.getKey(), entry.getValue());
-        });
-    writeContext.getDataStack()
-        .forEach(fieldContext -> {
-          Object data = fieldContext.getData();
-          ((Map<String, Object>) data).entrySet()
-              .stream()
-              .filter(entry -> !(entry.getValue() instanceof Map))
-              .forEach(entry -> context.set(fieldsBuilder.toString() + entry.getKey(), entry.getValue()));
-
-          Map<String, Object> input = fieldContext.getInput();
-          input.forEach((key, value) -> context.set(argsBuilder.toString() + key, value));
-          fieldsBuilder.append("_parent.");
-          argsBuilder.append("_parent.");
-        });
-
-    // add uri to context
-    String path = writeContext.getUri()
-        .getPath();
-    String uriString = writeContext.getUri()
-        .toString();
-    int pathIdx = uriString.indexOf(path);
-    context.set("request.uri", uriString.substring(pathIdx));
-
-    // add properties data to context
-    this.properties.getAllProperties()
-        .forEach((key, value) -> context.set("env." + key, value));
-
-    return jexlHelper.evaluateScript(writeContext.getResponseObject()
-        .getSummary()
+  private Optional<String> evaluateJexl(ResponseNode node, DataStack dataStack, WriteState state) {
+    ResponseJexlContext context =
+        new ResponseJexlContext(properties.getAllProperties(), state.getParameters(), state.getUri(), dataStack);
+
+    return jexlHelper.evaluateScript(node.getSummary()
         .getDwsExpr(), context, String.class);
   }
 
-  private String addToPath(String path, ResponseObject responseObject, boolean canAddArray) {
-    if ((!Objects.equals(ARRAY_TYPE, responseObject.getSummary()
-        .getType()) || canAddArray) && !responseObject.getSummary()
-            .isEnvelope()) {
-      return getPathString(path, responseObject);
+  private static final class WriteState {
+
+    private final Map<String, Object> parameters;
+
+    private final URI uri;
+
+    private final BitSet expanded;
+
+    private WriteState(Map<String, Object> parameters, URI uri, BitSet expanded) {
+      this.parameters = parameters;
+      this.uri = uri;
+      this.expanded = expanded;
+    }
+
+    private Map<String, Object> getParameters() {
+      return parameters;
+    }
+
+    private URI getUri() {
+      return uri;
+    }
+
+    private boolean isExpanded(ResponseNode node) {
+      return expanded.get(node.getExpandIndex());
     }
-    return path;
   }
 }
@@ -0,0 +1,28 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import java.util.List;
+import lombok.Getter;
+import org.dotwebstack.framework.service.openapi.response.SchemaSummary;
+
+@Getter
+final class ResponseNode {
+
+  private final String identifier;
+
+  private final SchemaSummary summary;
+
+  private final int expandIndex;
+
+  private final List<ResponseNode> children;
+
+  private final ResponseNode item;
+
+  ResponseNode(String identifier, SchemaSummary summary, int expandIndex, List<ResponseNode> children,
+      ResponseNode item) {
+    this.identifier = identifier;
+    this.summary = summary;
+    this.expandIndex = expandIndex;
+    this.children = children;
+    this.item = item;
+  }
+}
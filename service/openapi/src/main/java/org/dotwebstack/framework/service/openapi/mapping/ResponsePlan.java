@@ -0,0 +1,94 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.ARRAY_TYPE;
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPANDED_PARAMS;
+import static org.dotwebstack.framework.service.openapi.response.ResponseContextHelper.getPathString;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+import org.dotwebstack.framework.service.openapi.response.ResponseObject;
+import org.dotwebstack.framework.service.openapi.response.SchemaSummary;
+
+/*
+ * The response schema compiled into nodes. Every node knows the expand path that switches it on as
+ * an index into a bit set, so a request only resolves its expand parameter once.
+ */
+final class ResponsePlan {
+
+  @Getter
+  private final ResponseNode root;
+
+  private final Map<String, Integer> expandIndices;
+
+  private ResponsePlan(ResponseNode root, Map<String, Integer> expandIndices) {
+    this.root = root;
+    this.expandIndices = expandIndices;
+  }
+
+  static ResponsePlan compile(@NonNull ResponseObject responseObject) {
+    Map<String, Integer> expandIndices = new HashMap<>();
+    ResponseNode root = compile(responseObject, "", expandIndices);
+    return new ResponsePlan(root, expandIndices);
+  }
+
+  private static ResponseNode compile(ResponseObject responseObject, String parentPath,
+      Map<String, Integer> expandIndices) {
+    SchemaSummary summary = responseObject.getSummary();
+    String path = addToPath(parentPath, responseObject, false);
+    String expandPath =
+        removeRoot(Objects.equals(ARRAY_TYPE, summary.getType()) ? addToPath(path, responseObject, true) : path);
+    int expandIndex = expandIndices.computeIfAbsent(expandPath, key -> expandIndices.size());
+
+    List<ResponseNode> children = Objects.isNull(summary.getChildren()) ? Collections.emptyList()
+        : summary.getChildren()
+            .stream()
+            .map(child -> compile(child, path, expandIndices))
+            .collect(Collectors.toList());
+
+    ResponseNode item = Objects.isNull(summary.getItems()) || summary.getItems()
+        .isEmpty() ? null
+            : compile(summary.getItems()
+                .get(0), path, expandIndices);
+
+    return new ResponseNode(responseObject.getIdentifier(), summary, expandIndex, children, item);
+  }
+
+  @SuppressWarnings("unchecked")
+  BitSet getExpanded(Map<String, Object> parameters) {
+    BitSet expanded = new BitSet(expandIndices.size());
+
+    if (parameters == null || parameters.get(X_DWS_EXPANDED_PARAMS) == null) {
+      return expanded;
+    }
+
+    ((List<String>) parameters.get(X_DWS_EXPANDED_PARAMS)).stream()
+        .map(expandIndices::get)
+        .filter(Objects::nonNull)
+        .forEach(expanded::set);
+
+    return expanded;
+  }
+
+  private static String addToPath(String path, ResponseObject responseObject, boolean canAddArray) {
+    if ((!Objects.equals(ARRAY_TYPE, responseObject.getSummary()
+        .getType()) || canAddArray) && !responseObject.getSummary()
+            .isEnvelope()) {
+      return getPathString(path, responseObject);
+    }
+    return path;
+  }
+
+  private static String removeRoot(String path) {
+    if (path.contains(".")) {
+      return path.substring(path.indexOf('.') + 1);
+    }
+    return "";
+  }
+}
@@ -0,0 +1,38 @@
+package org.dotwebstack.framework.service.openapi.param;
+
+import io.swagger.v3.oas.models.parameters.Parameter;
+import java.util.List;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * A parameter with everything that only depends on the specification resolved upfront: the schema
+ * type, the deserialized default and the allowed enum values.
+ */
+@Getter
+@Builder
+public class CompiledParameter {
+
+  private final Parameter parameter;
+
+  private final String schemaType;
+
+  private final String deserializationType;
+
+  private final Object defaultValue;
+
+  private final List<String> enumList;
+
+  private final Set<String> enumValues;
+
+  private final boolean skipValidation;
+
+  public String getName() {
+    return parameter.getName();
+  }
+
+  public boolean hasEnum() {
+    return enumValues != null;
+  }
+}
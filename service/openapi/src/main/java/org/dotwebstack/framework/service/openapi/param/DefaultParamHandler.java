@@ -24,7 +24,10 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,8 +57,14 @@ public class DefaultParamHandler implements ParamHandler {
   @Override
   public Optional<Object> getValue(@NonNull ServerRequest request, @NonNull Parameter parameter,
       @NonNull ResponseSchemaContext responseSchemaContext) {
+    return getValue(request, compile(parameter), responseSchemaContext);
+  }
+
+  protected Optional<Object> getValue(ServerRequest request, CompiledParameter parameter,
+      ResponseSchemaContext responseSchemaContext) {
     Object paramValue;
-    switch (parameter.getIn()) {
+    switch (parameter.getParameter()
+        .getIn()) {
       case PARAM_PATH_TYPE:
         paramValue = getPathParam(parameter, request);
         break;
@@ -66,7 +75,8 @@ public class DefaultParamHandler implements ParamHandler {
         paramValue = getHeaderParam(parameter, request);
         break;
       default:
-        throw illegalArgumentException("Unsupported value for parameters.in: '{}'.", parameter.getIn());
+        throw illegalArgumentException("Unsupported value for parameters.in: '{}'.", parameter.getParameter()
+            .getIn());
     }
 
     if (Objects.nonNull(paramValue)) {
@@ -74,16 +84,18 @@ public class DefaultParamHandler implements ParamHandler {
       validateEnumValues(convertedValue, parameter);
       return Optional.of(convertedValue);
     } else {
-      Optional<Object> defaultValue = getDefault(parameter);
+      Optional<Object> defaultValue = Optional.ofNullable(parameter.getDefaultValue());
       if (defaultValue.isPresent()) {
         validateEnumValues(defaultValue.get(), parameter);
       } else {
-        if (parameter.getRequired()) {
-          if (Objects.nonNull(parameter.getExtensions()) && parameter.getExtensions()
-              .containsKey(X_DWS_VALIDATE)) {
+        if (parameter.getParameter()
+            .getRequired()) {
+          if (parameter.isSkipValidation()) {
             return Optional.empty();
           }
-          throw parameterValidationException("No value provided for required {} parameter '{}'.", parameter.getIn(),
+          throw parameterValidationException("No value provided for required {} parameter '{}'.",
+              parameter.getParameter()
+                  .getIn(),
               parameter.getName());
         }
       }
@@ -92,6 +104,31 @@ public class DefaultParamHandler implements ParamHandler {
     }
   }
 
+  @Override
+  public ParamBinder createBinder(@NonNull Parameter parameter) {
+    CompiledParameter compiledParameter = compile(parameter);
+    return new ParamBinder(getParameterName(parameter.getName()),
+        (request, responseSchemaContext) -> getValue(request, compiledParameter, responseSchemaContext));
+  }
+
+  public CompiledParameter compile(@NonNull Parameter parameter) {
+    List<String> enumList = getEnum(parameter);
+    Schema<?> schema = parameter.getSchema();
+    String schemaType = schema.getType();
+
+    return CompiledParameter.builder()
+        .parameter(parameter)
+        .schemaType(schemaType)
+        .deserializationType(schema.get$ref() != null ? OBJECT_TYPE : schemaType)
+        .defaultValue(getDefault(parameter).map(DefaultParamHandler::immutableCopy)
+            .orElse(null))
+        .enumList(enumList)
+        .enumValues(enumList != null ? new HashSet<>(enumList) : null)
+        .skipValidation(Objects.nonNull(parameter.getExtensions()) && parameter.getExtensions()
+            .containsKey(X_DWS_VALIDATE))
+        .build();
+  }
+
   @Override
   public void validate(GraphQlField field, Parameter parameter, String pathName) {
     String parameterName = parameter.getName();
@@ -121,71 +158,65 @@ public class DefaultParamHandler implements ParamHandler {
     }
   }
 
-  @SuppressWarnings("unchecked")
   void validateEnumValues(Object paramValue, Parameter parameter) {
-    String type = parameter.getSchema()
-        .getType();
-    switch (type) {
+    validateEnumValues(paramValue, compile(parameter));
+  }
+
+  void validateEnumValues(Object paramValue, CompiledParameter parameter) {
+    if (!parameter.hasEnum()) {
+      return;
+    }
+
+    switch (parameter.getDeserializationType()) {
       case ARRAY_TYPE:
         validateEnumValuesForArray(paramValue, parameter);
         break;
       case STRING_TYPE:
-        if (hasEnum(parameter) && !parameter.getSchema()
-            .getEnum()
+        if (!parameter.getEnumValues()
             .contains(paramValue)) {
           throw parameterValidationException("Parameter '{}' has (an) invalid value(s): '{}', should be one of: '{}'",
-              parameter.getName(), paramValue, String.join(", ", parameter.getSchema()
-                  .getEnum()));
+              parameter.getName(), paramValue, String.join(", ", parameter.getEnumList()));
         }
         break;
       default:
-        if (hasEnum(parameter)) {
-          throw parameterValidationException("Sort parameter '{}' is of wrong type, can only be string or string[]",
-              parameter.getName());
-        }
+        throw parameterValidationException("Sort parameter '{}' is of wrong type, can only be string or string[]",
+            parameter.getName());
     }
   }
 
   @SuppressWarnings("unchecked")
-  private void validateEnumValuesForArray(Object paramValue, Parameter parameter) {
-    if (hasEnum(parameter)) {
-      List<String> list;
-      List<String> enumList = (List<String>) ((ArraySchema) parameter.getSchema()).getItems()
-          .getEnum();
-      if (paramValue instanceof String) {
-        list = Stream.of(((String) paramValue).replace("[", "")
-            .replace("]", ""))
-            .collect(Collectors.toList());
-      } else if (paramValue instanceof List) {
-        list = (List<String>) paramValue;
-      } else {
-        throw parameterValidationException("Enumerated parameter '{}' can only be of string or string[]",
-            parameter.getName());
-      }
-      List<String> invalidValues = list.stream()
-          .filter(param -> !enumList.contains(param))
+  private void validateEnumValuesForArray(Object paramValue, CompiledParameter parameter) {
+    List<String> list;
+    if (paramValue instanceof String) {
+      list = Stream.of(((String) paramValue).replace("[", "")
+          .replace("]", ""))
           .collect(Collectors.toList());
+    } else if (paramValue instanceof List) {
+      list = (List<String>) paramValue;
+    } else {
+      throw parameterValidationException("Enumerated parameter '{}' can only be of string or string[]",
+          parameter.getName());
+    }
+    List<String> invalidValues = list.stream()
+        .filter(param -> !parameter.getEnumValues()
+            .contains(param))
+        .collect(Collectors.toList());
 
-      if (!invalidValues.isEmpty()) {
-        throw parameterValidationException("Parameter '{}' has (an) invalid value(s): '{}', should be one of: '{}'",
-            parameter.getName(), String.join(", ", invalidValues), String.join(", ", enumList));
-      }
+    if (!invalidValues.isEmpty()) {
+      throw parameterValidationException("Parameter '{}' has (an) invalid value(s): '{}', should be one of: '{}'",
+          parameter.getName(), String.join(", ", invalidValues), String.join(", ", parameter.getEnumList()));
     }
   }
 
-  private Object deserialize(Parameter parameter, Object paramValue) {
+  private Object deserialize(CompiledParameter parameter, Object paramValue) {
     if (paramValue == null) {
       return null;
     }
-    String schemaType = parameter.getSchema()
-        .get$ref() != null ? OBJECT_TYPE
-            : parameter.getSchema()
-                .getType();
-    switch (schemaType) {
+    switch (parameter.getDeserializationType()) {
       case ARRAY_TYPE:
-        return deserializeArray(parameter, paramValue);
+        return deserializeArray(parameter.getParameter(), paramValue);
       case OBJECT_TYPE:
-        return deserializeObject(parameter, paramValue);
+        return deserializeObject(parameter.getParameter(), paramValue);
       default:
         return paramValue;
     }
@@ -261,7 +292,7 @@ public class DefaultParamHandler implements ParamHandler {
     return result;
   }
 
-  private Object getPathParam(Parameter parameter, ServerRequest request) {
+  private Object getPathParam(CompiledParameter parameter, ServerRequest request) {
     try {
       return request.pathVariable(parameter.getName());
     } catch (IllegalArgumentException exception) {
@@ -269,18 +300,18 @@ public class DefaultParamHandler implements ParamHandler {
     }
   }
 
-  private Object getQueryParam(Parameter parameter, ServerRequest request) {
+  private Object getQueryParam(CompiledParameter parameter, ServerRequest request) {
     List<String> result = request.queryParams()
         .get(parameter.getName());
 
-    if (ARRAY_TYPE.equals(parameter.getSchema()
-        .getType()) && parameter.getExplode()) {
+    if (ARRAY_TYPE.equals(parameter.getSchemaType()) && parameter.getParameter()
+        .getExplode()) {
       return result;
     }
     return (!Objects.isNull(result) && !result.isEmpty()) ? result.get(0) : null;
   }
 
-  private Object getHeaderParam(Parameter parameter, ServerRequest request) {
+  private Object getHeaderParam(CompiledParameter parameter, ServerRequest request) {
     List<String> result = request.headers()
         .header(parameter.getName());
     return !result.isEmpty() ? result.get(0) : null;
@@ -301,21 +332,36 @@ public class DefaultParamHandler implements ParamHandler {
     return Optional.empty();
   }
 
-  private boolean hasEnum(Parameter parameter) {
+  /*
+   * The default is shared by every request, so nested lists and maps are copied into unmodifiable
+   * collections before they are handed out.
+   */
+  @SuppressWarnings("unchecked")
+  private static Object immutableCopy(Object value) {
+    if (value instanceof List) {
+      return Collections.unmodifiableList(((List<Object>) value).stream()
+          .map(DefaultParamHandler::immutableCopy)
+          .collect(Collectors.toList()));
+    }
+
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      ((Map<Object, Object>) value).forEach((key, entryValue) -> copy.put(key, immutableCopy(entryValue)));
+      return Collections.unmodifiableMap(copy);
+    }
+
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> getEnum(Parameter parameter) {
+    List<String> enumList = null;
     if (parameter.getSchema() instanceof ArraySchema) {
-      ArraySchema arraySchema = (ArraySchema) parameter.getSchema();
-      return Objects.nonNull(arraySchema.getItems()
-          .getEnum())
-          && !arraySchema.getItems()
-              .getEnum()
-              .isEmpty();
+      enumList = (List<String>) ((ArraySchema) parameter.getSchema()).getItems()
+          .getEnum();
     } else if (parameter.getSchema() instanceof StringSchema) {
-      return Objects.nonNull(parameter.getSchema()
-          .getEnum())
-          && !parameter.getSchema()
-              .getEnum()
-              .isEmpty();
+      enumList = ((StringSchema) parameter.getSchema()).getEnum();
     }
-    return false;
+    return Objects.nonNull(enumList) && !enumList.isEmpty() ? enumList : null;
   }
 }
@@ -42,8 +42,8 @@ public class ExpandParamHandler extends DefaultParamHandler {
 
   @SuppressWarnings("unchecked")
   @Override
-  public Optional<Object> getValue(@NonNull ServerRequest request, @NonNull Parameter parameter,
-      @NonNull ResponseSchemaContext responseSchemaContext) {
+  protected Optional<Object> getValue(ServerRequest request, CompiledParameter parameter,
+      ResponseSchemaContext responseSchemaContext) {
     Optional<Object> expandValueOptional = super.getValue(request, parameter, responseSchemaContext);
 
     if (expandValueOptional.isPresent()) {
@@ -0,0 +1,26 @@
+package org.dotwebstack.framework.service.openapi.param;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+import lombok.Getter;
+import lombok.NonNull;
+import org.dotwebstack.framework.service.openapi.response.ResponseSchemaContext;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+public class ParamBinder {
+
+  @Getter
+  private final String name;
+
+  private final BiFunction<ServerRequest, ResponseSchemaContext, Optional<Object>> binder;
+
+  public ParamBinder(@NonNull String name,
+      @NonNull BiFunction<ServerRequest, ResponseSchemaContext, Optional<Object>> binder) {
+    this.name = name;
+    this.binder = binder;
+  }
+
+  public Optional<Object> bind(@NonNull ServerRequest request, @NonNull ResponseSchemaContext responseSchemaContext) {
+    return binder.apply(request, responseSchemaContext);
+  }
+}
@@ -19,4 +19,9 @@ public interface ParamHandler {
   default String getParameterName(String name) {
     return name;
   }
+
+  default ParamBinder createBinder(@NonNull Parameter parameter) {
+    return new ParamBinder(getParameterName(parameter.getName()),
+        (request, responseSchemaContext) -> getValue(request, parameter, responseSchemaContext));
+  }
 }
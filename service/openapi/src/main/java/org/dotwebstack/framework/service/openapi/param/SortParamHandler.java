@@ -16,7 +16,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.NonNull;
 import org.dotwebstack.framework.service.openapi.response.ResponseSchemaContext;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -35,14 +34,12 @@ public class SortParamHandler extends DefaultParamHandler {
 
   @SuppressWarnings("unchecked")
   @Override
-  public Optional<Object> getValue(@NonNull ServerRequest request, @NonNull Parameter parameter,
-      @NonNull ResponseSchemaContext responseSchemaContext) {
+  protected Optional<Object> getValue(ServerRequest request, CompiledParameter parameter,
+      ResponseSchemaContext responseSchemaContext) {
     Optional<Object> value = super.getValue(request, parameter, responseSchemaContext);
 
     if (value.isPresent()) {
-      String type = parameter.getSchema()
-          .getType();
-      switch (type) {
+      switch (parameter.getSchemaType()) {
         case ARRAY_TYPE:
           List<String> list;
           if (value.get() instanceof String) {
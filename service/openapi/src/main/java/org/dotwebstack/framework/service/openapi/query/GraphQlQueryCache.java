@@ -0,0 +1,63 @@
+package org.dotwebstack.framework.service.openapi.query;
+
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPANDED_PARAMS;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.dotwebstack.framework.core.query.GraphQlArgument;
+import org.dotwebstack.framework.service.openapi.response.ResponseSchemaContext;
+
+/*
+ * Memoizes the query of a single operation. The query only depends on which top-level arguments are
+ * present and on the expanded paths, so those make up the key.
+ */
+public class GraphQlQueryCache {
+
+  private static final int MAXIMUM_SIZE = 256;
+
+  private final ResponseSchemaContext responseSchemaContext;
+
+  private final GraphQlQueryBuilder queryBuilder = new GraphQlQueryBuilder();
+
+  private final Cache<List<Object>, String> queries = CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_SIZE)
+      .build();
+
+  public GraphQlQueryCache(@NonNull ResponseSchemaContext responseSchemaContext) {
+    this.responseSchemaContext = responseSchemaContext;
+  }
+
+  public String getQuery(@NonNull Map<String, Object> inputParams) {
+    List<Object> key = createKey(inputParams);
+    String query = queries.getIfPresent(key);
+
+    if (query == null) {
+      query = queryBuilder.toQuery(responseSchemaContext, inputParams);
+      queries.put(key, query);
+    }
+
+    return query;
+  }
+
+  private List<Object> createKey(Map<String, Object> inputParams) {
+    List<String> arguments = responseSchemaContext.getGraphQlField()
+        .getArguments()
+        .stream()
+        .map(GraphQlArgument::getName)
+        .filter(inputParams::containsKey)
+        .collect(Collectors.toList());
+
+    Object expanded = inputParams.get(X_DWS_EXPANDED_PARAMS);
+
+    return List.of(arguments,
+        Objects.nonNull(expanded) ? new HashSet<>((Collection<?>) expanded) : Collections.emptySet());
+  }
+}
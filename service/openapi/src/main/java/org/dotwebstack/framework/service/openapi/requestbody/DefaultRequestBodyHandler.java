@@ -1,12 +1,10 @@
 package org.dotwebstack.framework.service.openapi.requestbody;
 
 import static java.util.Collections.singletonList;
-import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
 import static org.dotwebstack.framework.core.helpers.ExceptionHelper.invalidConfigurationException;
 import static org.dotwebstack.framework.service.openapi.exception.OpenApiExceptionHelper.badRequestException;
 import static org.dotwebstack.framework.service.openapi.helper.SchemaResolver.resolveSchema;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import graphql.language.InputObjectTypeDefinition;
 import graphql.language.InputValueDefinition;
@@ -18,24 +16,25 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import lombok.NonNull;
 import org.dotwebstack.framework.core.helpers.TypeHelper;
 import org.dotwebstack.framework.core.query.GraphQlArgument;
 import org.dotwebstack.framework.core.query.GraphQlField;
 import org.dotwebstack.framework.service.openapi.exception.BadRequestException;
-import org.dotwebstack.framework.service.openapi.helper.JsonNodeUtils;
 import org.dotwebstack.framework.service.openapi.helper.OasConstants;
 import org.dotwebstack.framework.service.openapi.mapping.TypeValidator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -58,25 +57,27 @@ public class DefaultRequestBodyHandler implements RequestBodyHandler {
   }
 
   @Override
-  public Optional<Object> getValue(@NonNull ServerRequest request, @NonNull RequestBody requestBody,
-      Map<String, Object> parameterMap) throws BadRequestException {
-    Mono<String> mono = request.bodyToMono(String.class);
-    String value = mono.block();
-
-    if (Objects.isNull(value) && Boolean.TRUE.equals(requestBody.getRequired())) {
-      throw badRequestException("Request body required but not found.");
-    } else if (Objects.isNull(value)) {
-      return Optional.empty();
-    } else {
-      validateContentType(request);
-      try {
-        JsonNode node = objectMapper.reader()
-            .readTree(value);
-        return Optional.ofNullable(JsonNodeUtils.toObject(node));
-      } catch (IOException e) {
-        throw illegalArgumentException("Could not parse request body as JSON: {}.", e.getMessage());
-      }
-    }
+  public Mono<Object> getValue(@NonNull ServerRequest request, @NonNull RequestBody requestBody,
+      Map<String, Object> parameterMap) {
+    Flux<DataBuffer> body = request.body(BodyExtractors.toDataBuffers())
+        .index()
+        .<DataBuffer>handle((indexedBuffer, sink) -> {
+          if (indexedBuffer.getT1() == 0) {
+            try {
+              validateContentType(request);
+            } catch (BadRequestException | UnsupportedMediaTypeException e) {
+              DataBufferUtils.release(indexedBuffer.getT2());
+              sink.error(e);
+              return;
+            }
+          }
+          sink.next(indexedBuffer.getT2());
+        });
+
+    return JsonBodyParser.parse(objectMapper.getFactory(), body)
+        .switchIfEmpty(Mono.defer(() -> Boolean.TRUE.equals(requestBody.getRequired())
+            ? Mono.<Object>error(badRequestException("Request body required but not found."))
+            : Mono.empty()));
   }
 
   @SuppressWarnings("rawtypes")
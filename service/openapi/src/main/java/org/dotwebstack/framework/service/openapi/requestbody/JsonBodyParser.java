@@ -0,0 +1,144 @@
+package org.dotwebstack.framework.service.openapi.requestbody;
+
+import static org.dotwebstack.framework.core.helpers.ExceptionHelper.illegalArgumentException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/*
+ * Feeds the request body buffers to a non-blocking Jackson parser and builds the maps and lists of
+ * the GraphQL variables while the bytes arrive, so the body is never held as a string or a tree.
+ */
+final class JsonBodyParser {
+
+  private final JsonParser parser;
+
+  private final ByteArrayFeeder feeder;
+
+  private final Deque<Object> containers = new ArrayDeque<>();
+
+  private String fieldName;
+
+  private Object result;
+
+  private boolean hasResult;
+
+  private JsonBodyParser(JsonFactory jsonFactory) {
+    try {
+      this.parser = jsonFactory.createNonBlockingByteArrayParser();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not create a parser for the request body.", e);
+    }
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  static Mono<Object> parse(JsonFactory jsonFactory, Flux<DataBuffer> body) {
+    return Mono.defer(() -> {
+      JsonBodyParser bodyParser = new JsonBodyParser(jsonFactory);
+      return body.doOnNext(bodyParser::feed)
+          .then(Mono.fromCallable(bodyParser::finish));
+    });
+  }
+
+  private void feed(DataBuffer buffer) {
+    try {
+      byte[] bytes = new byte[buffer.readableByteCount()];
+      buffer.read(bytes);
+      feeder.feedInput(bytes, 0, bytes.length);
+      readTokens();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not parse request body as JSON: {}.", e.getMessage());
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+
+  private Object finish() {
+    try {
+      feeder.endOfInput();
+      readTokens();
+      parser.close();
+    } catch (IOException e) {
+      throw illegalArgumentException("Could not parse request body as JSON: {}.", e.getMessage());
+    }
+
+    if (!containers.isEmpty()) {
+      throw illegalArgumentException("Could not parse request body as JSON: unexpected end of input.");
+    }
+
+    return result;
+  }
+
+  private void readTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      switch (token) {
+        case START_OBJECT:
+          Map<String, Object> map = new HashMap<>();
+          addValue(map);
+          containers.push(map);
+          break;
+        case START_ARRAY:
+          List<Object> list = new ArrayList<>();
+          addValue(list);
+          containers.push(list);
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          containers.pop();
+          break;
+        case FIELD_NAME:
+          fieldName = parser.getCurrentName();
+          break;
+        case VALUE_STRING:
+          addValue(parser.getText());
+          break;
+        case VALUE_NUMBER_INT:
+          addValue(
+              parser.getNumberType() == JsonParser.NumberType.INT ? parser.getIntValue() : parser.getNumberValue());
+          break;
+        case VALUE_NUMBER_FLOAT:
+          addValue(parser.getDoubleValue());
+          break;
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          addValue(parser.getBooleanValue());
+          break;
+        default:
+          addValue(null);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void addValue(Object value) {
+    if (containers.isEmpty()) {
+      if (hasResult) {
+        throw illegalArgumentException("Could not parse request body as JSON: unexpected content after the body.");
+      }
+      result = value;
+      hasResult = true;
+      return;
+    }
+
+    Object container = containers.peek();
+    if (container instanceof Map) {
+      ((Map<String, Object>) container).put(fieldName, value);
+    } else {
+      ((List<Object>) container).add(value);
+    }
+  }
+}
@@ -2,16 +2,15 @@ package org.dotwebstack.framework.service.openapi.requestbody;
 
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import java.util.Map;
-import java.util.Optional;
 import lombok.NonNull;
 import org.dotwebstack.framework.core.query.GraphQlField;
-import org.dotwebstack.framework.service.openapi.exception.BadRequestException;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
 
 public interface RequestBodyHandler {
 
-  Optional<Object> getValue(@NonNull ServerRequest request, @NonNull RequestBody requestBody,
-      Map<String, Object> parameterMap) throws BadRequestException;
+  Mono<Object> getValue(@NonNull ServerRequest request, @NonNull RequestBody requestBody,
+      Map<String, Object> parameterMap);
 
   void validate(@NonNull GraphQlField graphQlField, @NonNull RequestBody requestBody, @NonNull String pathName);
 
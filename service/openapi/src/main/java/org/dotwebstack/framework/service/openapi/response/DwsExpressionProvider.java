@@ -0,0 +1,132 @@
+package org.dotwebstack.framework.service.openapi.response;
+
+import static org.dotwebstack.framework.service.openapi.helper.DwsExtensionHelper.getDwsExtension;
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPR;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import org.dotwebstack.framework.core.jexl.JexlSourceProvider;
+import org.springframework.stereotype.Component;
+
+/*
+ * Collects the x-dws-expr scripts of every schema in the specification, including inline schemas of
+ * responses and request bodies, so they are compiled with the JEXL registry at startup.
+ */
+@Component
+public class DwsExpressionProvider implements JexlSourceProvider {
+
+  private final OpenAPI openApi;
+
+  public DwsExpressionProvider(@NonNull OpenAPI openApi) {
+    this.openApi = openApi;
+  }
+
+  @Override
+  public Collection<String> getExpressions() {
+    return List.of();
+  }
+
+  @Override
+  public Collection<String> getScripts() {
+    Set<String> scripts = new LinkedHashSet<>();
+    Set<Schema<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    getRootSchemas().forEach(schema -> collectScripts(schema, scripts, visited));
+
+    return scripts;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Stream<Schema> getRootSchemas() {
+    Components components = Objects.requireNonNullElseGet(openApi.getComponents(), Components::new);
+
+    return Stream.of(values(components.getSchemas()).stream(), values(components.getResponses()).stream()
+        .flatMap(DwsExpressionProvider::getSchemas),
+        values(components.getRequestBodies()).stream()
+            .flatMap(DwsExpressionProvider::getSchemas),
+        values(openApi.getPaths()).stream()
+            .flatMap(pathItem -> pathItem.readOperations()
+                .stream())
+            .flatMap(DwsExpressionProvider::getSchemas))
+        .flatMap(Function.identity());
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Stream<Schema> getSchemas(Operation operation) {
+    return Stream.concat(values(operation.getResponses()).stream()
+        .flatMap(DwsExpressionProvider::getSchemas),
+        Stream.ofNullable(operation.getRequestBody())
+            .flatMap(DwsExpressionProvider::getSchemas));
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Stream<Schema> getSchemas(ApiResponse apiResponse) {
+    return getSchemas(apiResponse.getContent());
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Stream<Schema> getSchemas(RequestBody requestBody) {
+    return getSchemas(requestBody.getContent());
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static Stream<Schema> getSchemas(Content content) {
+    return values(content).stream()
+        .map(MediaType::getSchema)
+        .filter(Objects::nonNull);
+  }
+
+  @SuppressWarnings("rawtypes")
+  private static void collectScripts(Schema<?> schema, Set<String> scripts, Set<Schema<?>> visited) {
+    if (schema == null || !visited.add(schema)) {
+      return;
+    }
+
+    Object expression = getDwsExtension(schema, X_DWS_EXPR);
+
+    if (expression instanceof String) {
+      scripts.add((String) expression);
+    }
+
+    values(schema.getProperties()).forEach(property -> collectScripts(property, scripts, visited));
+
+    if (schema instanceof ArraySchema) {
+      collectScripts(((ArraySchema) schema).getItems(), scripts, visited);
+    }
+
+    if (schema instanceof ComposedSchema) {
+      ComposedSchema composedSchema = (ComposedSchema) schema;
+      Stream.of(composedSchema.getAllOf(), composedSchema.getAnyOf(), composedSchema.getOneOf())
+          .filter(Objects::nonNull)
+          .flatMap(List::stream)
+          .forEach(subSchema -> collectScripts(subSchema, scripts, visited));
+    }
+
+    if (schema.getAdditionalProperties() instanceof Schema) {
+      collectScripts((Schema) schema.getAdditionalProperties(), scripts, visited);
+    }
+  }
+
+  private static <V> Collection<V> values(Map<String, V> map) {
+    return map != null ? map.values() : List.of();
+  }
+}
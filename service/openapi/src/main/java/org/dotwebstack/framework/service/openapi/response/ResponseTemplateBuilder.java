@@ -26,13 +26,18 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.NonNull;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.service.openapi.HttpMethodOperation;
 
 @Builder
 public class ResponseTemplateBuilder {
 
+  @NonNull
   private final OpenAPI openApi;
 
+  @NonNull
+  private final JexlRegistry jexlRegistry;
+
   private static boolean isRequired(Schema<?> schema, String property) {
     return schema == null || (Objects.nonNull(schema.getRequired()) && schema.getRequired()
         .contains(property));
@@ -228,6 +233,11 @@ public class ResponseTemplateBuilder {
       throw invalidConfigurationException("Extension '{}' is only allowed for string types.", X_DWS_EXPR);
     }
 
+    if (!jexlRegistry.containsScript((String) result)) {
+      throw invalidConfigurationException("Expression '{}' of extension '{}' was not compiled at startup.", result,
+          X_DWS_EXPR);
+    }
+
     return (String) result;
   }
 }
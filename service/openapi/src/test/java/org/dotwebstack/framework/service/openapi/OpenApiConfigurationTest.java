@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.Getter;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
+import org.dotwebstack.framework.service.openapi.handler.ExecutionPool;
 import org.dotwebstack.framework.service.openapi.mapping.ResponseMapper;
 import org.dotwebstack.framework.service.openapi.param.ParamHandlerRouter;
 import org.dotwebstack.framework.service.openapi.requestbody.DefaultRequestBodyHandler;
@@ -71,7 +72,8 @@ public class OpenApiConfigurationTest {
     this.openApiStream = TestResources.openApiStream();
     this.openApiConfiguration = spy(new OpenApiConfiguration(openApi, graphQL, this.registry, responseMapper,
         new ParamHandlerRouter(Collections.emptyList(), openApi), openApiStream, responseContextValidator,
-        requestBodyHandlerRouter));
+        requestBodyHandlerRouter, TestResources.jexlRegistry(openApi),
+        new ExecutionPool("openapi", new OpenApiProperties.ExecutorProperties())));
   }
 
   @Test
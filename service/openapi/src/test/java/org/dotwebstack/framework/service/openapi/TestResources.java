@@ -13,10 +13,13 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.jexl3.JexlBuilder;
 import org.dotwebstack.framework.core.helpers.ExceptionHelper;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.core.query.GraphQlField;
 import org.dotwebstack.framework.core.query.GraphQlFieldBuilder;
 import org.dotwebstack.framework.service.openapi.helper.QueryFieldHelper;
+import org.dotwebstack.framework.service.openapi.response.DwsExpressionProvider;
 
 public class TestResources {
 
@@ -35,6 +38,15 @@ public class TestResources {
         .getOpenAPI();
   }
 
+  public static JexlRegistry jexlRegistry(OpenAPI openApi) {
+    JexlRegistry.Builder builder = JexlRegistry.builder(new JexlBuilder().silent(false)
+        .strict(true)
+        .create());
+    new DwsExpressionProvider(openApi).getScripts()
+        .forEach(builder::script);
+    return builder.build();
+  }
+
   public static InputStream openApiStream() {
     return TestResources.class.getClassLoader()
         .getResourceAsStream(OPEN_API_FILE);
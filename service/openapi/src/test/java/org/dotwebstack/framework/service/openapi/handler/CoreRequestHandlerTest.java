@@ -0,0 +1,140 @@
+package org.dotwebstack.framework.service.openapi.handler;
+
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResultImpl;
+import graphql.GraphQL;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.dotwebstack.framework.service.openapi.OpenApiConfiguration;
+import org.dotwebstack.framework.service.openapi.OpenApiProperties;
+import org.dotwebstack.framework.service.openapi.TestResources;
+import org.dotwebstack.framework.service.openapi.conversion.TypeConverterRouter;
+import org.dotwebstack.framework.service.openapi.mapping.EnvironmentProperties;
+import org.dotwebstack.framework.service.openapi.mapping.ResponseMapper;
+import org.dotwebstack.framework.service.openapi.param.ParamHandlerRouter;
+import org.dotwebstack.framework.service.openapi.requestbody.DefaultRequestBodyHandler;
+import org.dotwebstack.framework.service.openapi.requestbody.RequestBodyHandlerRouter;
+import org.dotwebstack.framework.service.openapi.response.ResponseContextValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@ExtendWith(MockitoExtension.class)
+class CoreRequestHandlerTest {
+
+  private static final int ITEM_COUNT = 5000;
+
+  @Mock
+  private GraphQL graphQL;
+
+  @Mock
+  private EnvironmentProperties environmentProperties;
+
+  @Mock
+  private ResponseContextValidator responseContextValidator;
+
+  @Mock
+  private RequestBodyHandlerRouter requestBodyHandlerRouter;
+
+  private ExecutionPool executionPool;
+
+  private WebTestClient webTestClient;
+
+  @BeforeEach
+  void setUp() {
+    OpenAPI openApi = TestResources.openApi();
+    ((Schema<?>) openApi.getComponents()
+        .getSchemas()
+        .get("Object1")
+        .getProperties()
+        .get("o1_prop1")).getExtensions()
+            .put(X_DWS_EXPR, "`template_content`");
+    TypeDefinitionRegistry registry = TestResources.typeDefinitionRegistry();
+    ResponseMapper responseMapper = new ResponseMapper(new Jackson2ObjectMapperBuilder(),
+        TestResources.jexlRegistry(openApi), environmentProperties, new TypeConverterRouter(Collections.emptyList()));
+    executionPool = new ExecutionPool("openapi", new OpenApiProperties.ExecutorProperties());
+
+    when(requestBodyHandlerRouter.getRequestBodyHandler(any()))
+        .thenReturn(new DefaultRequestBodyHandler(openApi, registry, new Jackson2ObjectMapperBuilder()));
+
+    OpenApiConfiguration openApiConfiguration = new OpenApiConfiguration(openApi, graphQL, registry, responseMapper,
+        new ParamHandlerRouter(Collections.emptyList(), openApi), TestResources.openApiStream(),
+        responseContextValidator, requestBodyHandlerRouter, TestResources.jexlRegistry(openApi), executionPool);
+    webTestClient = WebTestClient.bindToRouterFunction(openApiConfiguration.route(openApi))
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executionPool.close();
+  }
+
+  @Test
+  void handle_returnsOk_ForLargeValidResponse() {
+    // Arrange
+    mockQueryResult(-1);
+
+    // Act
+    Map<?, ?> body = webTestClient.get()
+        .uri("/query1")
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(Map.class)
+        .returnResult()
+        .getResponseBody();
+
+    // Assert
+    assertEquals(ITEM_COUNT, ((List<?>) body.get("o1_array1")).size());
+  }
+
+  @Test
+  void handle_returnsServerError_ForMissingRequiredFieldInMiddleOfLargeList() {
+    // Arrange
+    mockQueryResult(ITEM_COUNT / 2);
+
+    // Act / Assert
+    webTestClient.get()
+        .uri("/query1")
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus()
+        .is5xxServerError();
+  }
+
+  private void mockQueryResult(int missingIndex) {
+    List<Map<String, Object>> items = new ArrayList<>();
+    for (int index = 0; index < ITEM_COUNT; index++) {
+      Map<String, Object> item = new HashMap<>();
+      item.put("o2_prop1", index == missingIndex ? null : "value " + index);
+      items.add(item);
+    }
+
+    Map<String, Object> data = new HashMap<>();
+    data.put("o1_prop1", "value");
+    data.put("o1_prop2", 1.0);
+    data.put("o1_array1", items);
+
+    when(graphQL.executeAsync(any(ExecutionInput.class)))
+        .thenReturn(CompletableFuture.completedFuture(new ExecutionResultImpl(Map.of("query1", data), List.of())));
+  }
+}
@@ -0,0 +1,77 @@
+package org.dotwebstack.framework.service.openapi.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.BaseSubscriber;
+
+class DataBufferOutputStreamTest {
+
+  @Test
+  void toFlux_EmitsChunks_OfAtMostChunkSize() {
+    // Arrange
+    DataBufferOutputStream outputStream = new DataBufferOutputStream(new DefaultDataBufferFactory(), 4);
+    outputStream.write("abcdefghij".getBytes(StandardCharsets.UTF_8), 0, 10);
+    outputStream.write('k');
+
+    // Act
+    List<String> chunks = outputStream.toFlux()
+        .map(DataBufferOutputStreamTest::toString)
+        .collectList()
+        .block();
+
+    // Assert
+    assertEquals(List.of("abcd", "efgh", "ijk"), chunks);
+  }
+
+  @Test
+  void toFlux_EmitsChunks_OnlyWhenRequested() {
+    // Arrange
+    DataBufferOutputStream outputStream = new DataBufferOutputStream(new DefaultDataBufferFactory(), 2);
+    outputStream.write("abcdef".getBytes(StandardCharsets.UTF_8), 0, 6);
+    List<String> chunks = new ArrayList<>();
+
+    // Act
+    outputStream.toFlux()
+        .subscribe(new BaseSubscriber<DataBuffer>() {
+          @Override
+          protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+          }
+
+          @Override
+          protected void hookOnNext(DataBuffer buffer) {
+            chunks.add(DataBufferOutputStreamTest.toString(buffer));
+          }
+        });
+
+    // Assert
+    assertEquals(List.of("ab"), chunks);
+  }
+
+  @Test
+  void release_DropsPendingChunks() {
+    // Arrange
+    DataBufferOutputStream outputStream = new DataBufferOutputStream(new DefaultDataBufferFactory(), 2);
+    outputStream.write("abcdef".getBytes(StandardCharsets.UTF_8), 0, 6);
+
+    // Act
+    outputStream.release();
+
+    // Assert
+    assertEquals(List.of(), outputStream.toFlux()
+        .collectList()
+        .block());
+  }
+
+  private static String toString(DataBuffer buffer) {
+    return StandardCharsets.UTF_8.decode(buffer.asByteBuffer())
+        .toString();
+  }
+}
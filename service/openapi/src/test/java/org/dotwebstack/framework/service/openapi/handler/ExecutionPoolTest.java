@@ -0,0 +1,61 @@
+package org.dotwebstack.framework.service.openapi.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.dotwebstack.framework.service.openapi.OpenApiProperties.ExecutorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+
+class ExecutionPoolTest {
+
+  private ExecutionPool executionPool;
+
+  @BeforeEach
+  void setUp() {
+    ExecutorProperties properties = new ExecutorProperties();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(1);
+    executionPool = new ExecutionPool("test", properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executionPool.close();
+  }
+
+  @Test
+  void schedule_ThrowsException_WhenQueueIsFull() throws Exception {
+    // Arrange
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch latch = new CountDownLatch(1);
+    Scheduler scheduler = executionPool.getScheduler();
+    scheduler.schedule(() -> {
+      started.countDown();
+      await(latch);
+    });
+    started.await();
+    scheduler.schedule(() -> await(latch));
+
+    // Act / Assert
+    assertThrows(RejectedExecutionException.class, () -> scheduler.schedule(() -> await(latch)));
+    assertEquals(1L, executionPool.getRejectedCount());
+    assertEquals(1, executionPool.getActiveCount());
+    assertEquals(1, executionPool.getQueueDepth());
+
+    latch.countDown();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread()
+          .interrupt();
+    }
+  }
+}
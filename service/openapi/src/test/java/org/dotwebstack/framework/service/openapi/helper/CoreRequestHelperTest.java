@@ -6,13 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import org.dotwebstack.framework.core.InvalidConfigurationException;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.web.reactive.function.server.ServerRequest;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 class CoreRequestHelperTest {
 
@@ -57,9 +59,9 @@ class CoreRequestHelperTest {
   public void parameterValidation_ThrowsError_withNonexistentRequestBody() {
     // arrange
     ServerRequest request = MockServerRequest.builder()
-        .body(Mono.just("test"));
+        .body(Flux.just(new DefaultDataBufferFactory().wrap("test".getBytes(StandardCharsets.UTF_8))));
 
     // act & assert
-    assertThrows(InvalidConfigurationException.class, () -> validateRequestBodyNonexistent(request));
+    assertThrows(InvalidConfigurationException.class, () -> validateRequestBodyNonexistent(request).block());
   }
 }
@@ -0,0 +1,69 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.collect.ImmutableMap;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import org.dotwebstack.framework.service.openapi.response.FieldContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseJexlContextTest {
+
+  private ResponseJexlContext context;
+
+  @BeforeEach
+  void setUp() {
+    Deque<FieldContext> dataStack = new ArrayDeque<>();
+    dataStack.push(FieldContext.builder()
+        .data(ImmutableMap.of("name", "root", "child", ImmutableMap.of("name", "child")))
+        .input(ImmutableMap.of("arg", "rootArg"))
+        .build());
+    dataStack.push(FieldContext.builder()
+        .data(ImmutableMap.of("name", "child"))
+        .input(Collections.emptyMap())
+        .build());
+
+    context = new ResponseJexlContext(ImmutableMap.of("env_var", "v0"), ImmutableMap.of("expand", "child"),
+        URI.create("http://localhost:8080/breweries?expand=child"), DataStack.of(dataStack));
+  }
+
+  @Test
+  void get_ResolvesFields_FromDataStack() {
+    // Act & Assert
+    assertEquals("child", context.get("fields.name"));
+    assertEquals("root", context.get("fields._parent.name"));
+    assertEquals("rootArg", context.get("args._parent.arg"));
+  }
+
+  @Test
+  void get_ResolvesRequestAndEnvironment() {
+    // Act & Assert
+    assertEquals("child", context.get("input.expand"));
+    assertEquals("/breweries?expand=child", context.get("request.uri"));
+    assertEquals("v0", context.get("env.env_var"));
+  }
+
+  @Test
+  void has_ReturnsFalse_ForNestedObjectsAndMissingParents() {
+    // Act & Assert
+    assertFalse(context.has("fields._parent.child"));
+    assertFalse(context.has("fields._parent._parent.name"));
+    assertNull(context.get("fields.unknown"));
+  }
+
+  @Test
+  void set_ShadowsResolvedVariable() {
+    // Act
+    context.set("fields.name", "local");
+
+    // Assert
+    assertEquals("local", context.get("fields.name"));
+  }
+
+}
@@ -5,9 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayDeque;
 import java.util.Collections;
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlEngine;
+import org.dotwebstack.framework.core.jexl.JexlRegistry;
 import org.dotwebstack.framework.service.openapi.conversion.TypeConverterRouter;
 import org.dotwebstack.framework.service.openapi.exception.NoResultFoundException;
 import org.dotwebstack.framework.service.openapi.response.FieldContext;
@@ -55,12 +56,16 @@ class ResponseMapperTest {
 
   @BeforeEach
   public void setup() {
+    JexlRegistry jexlRegistry = JexlRegistry.builder(jexlEngine)
+        .script(DWS_TEMPLATE.getSummary()
+            .getDwsExpr())
+        .build();
     this.responseMapper =
-        new ResponseMapper(new Jackson2ObjectMapperBuilder(), jexlEngine, properties, typeConverterRouter);
+        new ResponseMapper(new Jackson2ObjectMapperBuilder(), jexlRegistry, properties, typeConverterRouter);
   }
 
   @Test
-  public void map_returnsProperty_ForValidResponse() throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsProperty_ForValidResponse() throws NoResultFoundException, IOException {
     // Arrange
     Object data = ImmutableMap.of(REQUIRED_NILLABLE_STRING.getIdentifier(), "prop1value");
     Deque<FieldContext> dataStack = new ArrayDeque<>();
@@ -103,7 +108,7 @@ class ResponseMapperTest {
   }
 
   @Test
-  public void map_returnsValue_forDwsTemplate() throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsValue_forDwsTemplate() throws NoResultFoundException, IOException {
     // Arrange
     when(properties.getAllProperties()).thenReturn(ImmutableMap.of("env_var_1", "v0"));
     ResponseObject child2 = getObject("child2", ImmutableList.of(DWS_TEMPLATE));
@@ -139,8 +144,7 @@ class ResponseMapperTest {
   }
 
   @Test
-  public void map_returnsValue_forResponseWithEnvelopeObjectValue()
-      throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsValue_forResponseWithEnvelopeObjectValue() throws NoResultFoundException, IOException {
     // Arrange
     ResponseObject child2 = getObject("child2", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING));
     ResponseObject embedded = getObject("_embedded", "object", true, null, ImmutableList.of(child2));
@@ -168,8 +172,7 @@ class ResponseMapperTest {
   }
 
   @Test
-  public void map_returnsValue_forResponseWithEmbeddedEnvelopeObjectValue()
-      throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsValue_forResponseWithEmbeddedEnvelopeObjectValue() throws NoResultFoundException, IOException {
     // Arrange
     ResponseObject child2 = getObject("child2", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING));
     ResponseObject embedded1 = getObject("_embedded", "object", true, null, ImmutableList.of(child2));
@@ -198,7 +201,7 @@ class ResponseMapperTest {
   }
 
   @Test
-  public void map_returnsValue_forResponseWithArray() throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsValue_forResponseWithArray() throws NoResultFoundException, IOException {
     // Arrange
     ResponseObject arrayObject1 = getObject("", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING));
     ResponseObject arrayObject2 = getObject("", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING));
@@ -221,7 +224,6 @@ class ResponseMapperTest {
         .dataStack(dataStack)
         .build();
 
-
     // Act
     String response = responseMapper.toJson(writeContext);
 
@@ -230,7 +232,7 @@ class ResponseMapperTest {
   }
 
   @Test
-  public void map_returnsValue_forResponseWithObject() throws NoResultFoundException, JsonProcessingException {
+  public void map_returnsValue_forResponseWithObject() throws NoResultFoundException, IOException {
     // Arrange
     ResponseObject child2 = getObject("child2", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING));
     ResponseObject child1 = getObject("child1", ImmutableList.of(REQUIRED_NON_NILLABLE_STRING, child2));
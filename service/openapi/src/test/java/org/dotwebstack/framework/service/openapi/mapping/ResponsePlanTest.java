@@ -0,0 +1,65 @@
+package org.dotwebstack.framework.service.openapi.mapping;
+
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPANDED_PARAMS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.BitSet;
+import java.util.List;
+import org.dotwebstack.framework.service.openapi.response.ResponseObject;
+import org.dotwebstack.framework.service.openapi.response.SchemaSummary;
+import org.junit.jupiter.api.Test;
+
+class ResponsePlanTest {
+
+  @Test
+  void getExpanded_SetsBitsOfExpandedNodes_ForExpandParameter() {
+    // Arrange
+    ResponseObject beers = getObject("beers", "array", ImmutableList.of(getObject("beer", "object", List.of())));
+    ResponseObject brewery = getObject("brewery", "object", ImmutableList.of(beers));
+    ResponsePlan plan = ResponsePlan.compile(getObject("root", "object", ImmutableList.of(brewery)));
+
+    ResponseNode breweryNode = plan.getRoot()
+        .getChildren()
+        .get(0);
+    ResponseNode beersNode = breweryNode.getChildren()
+        .get(0);
+
+    // Act
+    BitSet expanded = plan.getExpanded(ImmutableMap.of(X_DWS_EXPANDED_PARAMS, ImmutableList.of("brewery.beers")));
+
+    // Assert
+    assertTrue(expanded.get(beersNode.getExpandIndex()));
+    assertFalse(expanded.get(breweryNode.getExpandIndex()));
+  }
+
+  @Test
+  void getExpanded_ReturnsEmptyBitSet_WithoutExpandParameter() {
+    // Arrange
+    ResponsePlan plan = ResponsePlan.compile(getObject("root", "object", List.of()));
+
+    // Act
+    BitSet expanded = plan.getExpanded(ImmutableMap.of());
+
+    // Assert
+    assertTrue(expanded.isEmpty());
+  }
+
+  private static ResponseObject getObject(String identifier, String type, List<ResponseObject> children) {
+    SchemaSummary.SchemaSummaryBuilder summary = SchemaSummary.builder()
+        .type(type);
+
+    if ("array".equals(type)) {
+      summary.items(children);
+    } else {
+      summary.children(children);
+    }
+
+    return ResponseObject.builder()
+        .identifier(identifier)
+        .summary(summary.build())
+        .build();
+  }
+}
@@ -345,6 +345,25 @@ public class DefaultParamHandlerTest {
         () -> paramHandler.getValue(request, parameter, responseSchemaContext));
   }
 
+  @Test
+  public void createBinder_usesCompiledDefault_withoutReadingSchemaPerRequest() throws ParameterValidationException {
+    // Arrange
+    mockParameterPath("test", "v", TYPE_STRING, false, Parameter.StyleEnum.SIMPLE);
+    when(request.pathVariable("test")).thenThrow(IllegalArgumentException.class);
+    when(parameter.getSchema()
+        .getDefault()).thenReturn("default1");
+    ParamBinder binder = paramHandler.createBinder(parameter);
+    when(parameter.getSchema()
+        .getDefault()).thenReturn("default2");
+
+    // Act
+    Optional<Object> result = binder.bind(request, responseSchemaContext);
+
+    // Assert
+    assertEquals("test", binder.getName());
+    assertEquals("default1", result.get());
+  }
+
   @Test
   public void getValue_throwsException_withObjectUnsupportedStyle() {
     // Arrange
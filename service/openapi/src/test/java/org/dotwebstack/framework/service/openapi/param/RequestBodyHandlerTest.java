@@ -4,13 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 import graphql.schema.idl.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -30,11 +33,14 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.UnsupportedMediaTypeException;
 import org.springframework.web.reactive.function.server.ServerRequest;
-import reactor.core.publisher.Mono;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -132,14 +138,13 @@ public class RequestBodyHandlerTest {
   }
 
   @Test
-  public void getValue_returns_Map_forValidJson() throws BadRequestException {
+  public void getValue_returns_Map_forValidJson() throws Throwable {
     // Arrange
     ServerRequest serverRequest = mockServerRequest(
         "{ \"o3_prop1\" : \"value\", \"o3_prop2\" : [\"value1\", \"value2\"] }", MediaType.APPLICATION_JSON);
 
     // Act
-    Optional<Object> value =
-        this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null);
+    Optional<Object> value = getValue(serverRequest);
 
     // Assert
     assertTrue(value.isPresent());
@@ -160,8 +165,7 @@ public class RequestBodyHandlerTest {
     ServerRequest serverRequest = mockServerRequest("test", MediaType.APPLICATION_JSON);
 
     // Act / Assert
-    assertThrows(IllegalArgumentException.class,
-        () -> this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null));
+    assertThrows(IllegalArgumentException.class, () -> getValue(serverRequest));
   }
 
   @Test
@@ -170,8 +174,7 @@ public class RequestBodyHandlerTest {
     ServerRequest serverRequest = mockServerRequest("test", MediaType.APPLICATION_PDF);
 
     // Act / Assert
-    assertThrows(UnsupportedMediaTypeException.class,
-        () -> this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null));
+    assertThrows(UnsupportedMediaTypeException.class, () -> getValue(serverRequest));
   }
 
   @Test
@@ -180,35 +183,71 @@ public class RequestBodyHandlerTest {
     ServerRequest serverRequest = mockServerRequest(null, MediaType.APPLICATION_JSON);
 
     // Act / Assert
-    assertThrows(BadRequestException.class,
-        () -> this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null));
+    assertThrows(BadRequestException.class, () -> getValue(serverRequest));
   }
 
   @Test
-  public void getValue_returnsEmpty_emptyRequestBodyNotRequired() throws BadRequestException {
+  public void getValue_returnsEmpty_emptyRequestBodyNotRequired() throws Throwable {
     // Arrange
     this.requestBodyContext.getRequestBodySchema()
         .setRequired(Boolean.FALSE);
     ServerRequest serverRequest = mockServerRequest(null, MediaType.APPLICATION_JSON);
 
     // Act
-    assertFalse(this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null)
-        .isPresent());
+    assertFalse(getValue(serverRequest).isPresent());
+  }
+
+  @Test
+  public void getValue_returns_Map_forJsonSplitOverBuffers() throws Throwable {
+    // Arrange
+    ServerRequest serverRequest = mockServerRequest(MediaType.APPLICATION_JSON, "{ \"o3_prop1\" : \"val", "ue\", ",
+        "\"o3_prop2\" : [1, 2.5, true, null] }");
+
+    // Act
+    Optional<Object> value = getValue(serverRequest);
+
+    // Assert
+    Map<String, Object> expected = new HashMap<>();
+    expected.put("o3_prop1", "value");
+    expected.put("o3_prop2", Arrays.asList(1, 2.5, true, null));
+
+    assertEquals(expected, value.get());
+  }
+
+  @Test
+  public void getValue_throwsException_forTruncatedJson() {
+    // Arrange
+    ServerRequest serverRequest = mockServerRequest("{ \"o3_prop1\" : [\"value\"", MediaType.APPLICATION_JSON);
+
+    // Act / Assert
+    assertThrows(IllegalArgumentException.class, () -> getValue(serverRequest));
+  }
+
+  private Optional<Object> getValue(ServerRequest serverRequest) throws Throwable {
+    try {
+      return this.requestBodyHandler.getValue(serverRequest, requestBodyContext.getRequestBodySchema(), null)
+          .blockOptional();
+    } catch (RuntimeException e) {
+      throw Exceptions.unwrap(e);
+    }
   }
 
   private ServerRequest mockServerRequest(String requestBodyContent, MediaType contentType) {
+    return Objects.isNull(requestBodyContent) ? mockServerRequest(contentType)
+        : mockServerRequest(contentType, requestBodyContent);
+  }
+
+  private ServerRequest mockServerRequest(MediaType contentType, String... requestBodyParts) {
     ServerRequest serverRequest = Mockito.mock(ServerRequest.class);
     ServerRequest.Headers headers = Mockito.mock(ServerRequest.Headers.class);
     when(headers.header(eq("Content-Type"))).thenReturn(Arrays.asList(contentType.toString()));
     when(serverRequest.headers()).thenReturn(headers);
 
-    Mono<String> mono;
-    if (Objects.isNull(requestBodyContent)) {
-      mono = Mono.empty();
-    } else {
-      mono = Mono.just(requestBodyContent);
-    }
-    when(serverRequest.bodyToMono(String.class)).thenReturn(mono);
+    DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+    Flux<DataBuffer> body = Flux.fromArray(requestBodyParts)
+        .map(part -> bufferFactory.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    doReturn(body).when(serverRequest)
+        .body(any());
     return serverRequest;
   }
 
@@ -0,0 +1,59 @@
+package org.dotwebstack.framework.service.openapi.query;
+
+import static org.dotwebstack.framework.service.openapi.helper.OasConstants.X_DWS_EXPANDED_PARAMS;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import org.dotwebstack.framework.service.openapi.TestResources;
+import org.dotwebstack.framework.service.openapi.response.ResponseObject;
+import org.dotwebstack.framework.service.openapi.response.ResponseSchemaContext;
+import org.dotwebstack.framework.service.openapi.response.ResponseTemplate;
+import org.dotwebstack.framework.service.openapi.response.SchemaSummary;
+import org.junit.jupiter.api.Test;
+
+class GraphQlQueryCacheTest {
+
+  private final GraphQlQueryCache queryCache = new GraphQlQueryCache(
+      new ResponseSchemaContext(TestResources.getGraphQlField(TestResources.typeDefinitionRegistry(), "query1"),
+          ImmutableList.of(ResponseTemplate.builder()
+              .responseCode(200)
+              .mediaType("application/json")
+              .responseObject(ResponseObject.builder()
+                  .identifier("query1")
+                  .summary(SchemaSummary.builder()
+                      .type("object")
+                      .required(true)
+                      .build())
+                  .build())
+              .build()),
+          Collections.emptyList(), null));
+
+  @Test
+  void getQuery_ReturnsSameQuery_ForSameArgumentsAndExpand() {
+    // Arrange
+    String query =
+        queryCache.getQuery(ImmutableMap.of("argument1", "a", X_DWS_EXPANDED_PARAMS, ImmutableList.of("o2")));
+
+    // Act
+    String result =
+        queryCache.getQuery(ImmutableMap.of("argument1", "b", X_DWS_EXPANDED_PARAMS, ImmutableList.of("o2")));
+
+    // Assert
+    assertSame(query, result);
+  }
+
+  @Test
+  void getQuery_BuildsNewQuery_ForOtherArguments() {
+    // Arrange
+    String query = queryCache.getQuery(ImmutableMap.of("argument1", "a"));
+
+    // Act
+    String result = queryCache.getQuery(ImmutableMap.of("argument2", "a"));
+
+    // Assert
+    assertNotEquals(query, result);
+  }
+}
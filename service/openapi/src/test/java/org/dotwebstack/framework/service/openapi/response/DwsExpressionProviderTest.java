@@ -0,0 +1,36 @@
+package org.dotwebstack.framework.service.openapi.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import java.util.List;
+import java.util.Map;
+import org.dotwebstack.framework.service.openapi.TestResources;
+import org.dotwebstack.framework.service.openapi.helper.OasConstants;
+import org.junit.jupiter.api.Test;
+
+class DwsExpressionProviderTest {
+
+  @Test
+  void getScripts_returnsScripts_ForComponentAndInlineSchemas() {
+    // Arrange
+    OpenAPI openApi = TestResources.openApi();
+    openApi.getPaths()
+        .get("/query1")
+        .getGet()
+        .getResponses()
+        .get("200")
+        .getContent()
+        .get("application/hal+json")
+        .setSchema(new ObjectSchema().addProperties("inline",
+            new StringSchema().extensions(Map.of(OasConstants.X_DWS_EXPR, "inline_content"))));
+
+    // Act
+    List<String> scripts = List.copyOf(new DwsExpressionProvider(openApi).getScripts());
+
+    // Assert
+    assertEquals(List.of("template_content", "inline_content"), scripts);
+  }
+}
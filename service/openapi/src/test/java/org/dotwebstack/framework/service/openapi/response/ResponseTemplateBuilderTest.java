@@ -197,10 +197,11 @@ public class ResponseTemplateBuilderTest {
       default:
         throw ExceptionHelper.unsupportedOperationException("method '{}' not yet supported.", httpMethod);
     }
-    return new ResponseTemplateBuilder(openApi).buildResponseTemplates(HttpMethodOperation.builder()
-        .name(path)
-        .httpMethod(httpMethod)
-        .operation(operation)
-        .build());
+    return new ResponseTemplateBuilder(openApi, TestResources.jexlRegistry(openApi))
+        .buildResponseTemplates(HttpMethodOperation.builder()
+            .name(path)
+            .httpMethod(httpMethod)
+            .operation(operation)
+            .build());
   }
 }